@@ -1,20 +1,25 @@
 package br.com.willianmendesf.system.cache;
 
 import br.com.willianmendesf.system.model.entity.AppointmentEntity;
+import br.com.willianmendesf.system.service.utils.MessageTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class AppointmentCache {
     private Map<Long, AppointmentEntity> cache = new ConcurrentHashMap<>();
+    // Mensagens já compiladas em template, por ID do agendamento
+    private Map<Long, MessageTemplate> templates = new ConcurrentHashMap<>();
 
     public void loadAppointments(List<AppointmentEntity> appointments) {
         cache.clear();
-        appointments.forEach(appointment -> cache.put(appointment.getId(), appointment));
+        templates.clear();
+        appointments.forEach(this::updateCacheAppointment);
     }
 
     public Collection<AppointmentEntity> getAllAppointments() {
@@ -27,5 +32,18 @@ public class AppointmentCache {
 
     public void updateCacheAppointment(AppointmentEntity appointment) {
         cache.put(appointment.getId(), appointment);
+        getMessageTemplate(appointment);
+    }
+
+    /**
+     * Retorna o template compilado da mensagem do agendamento, recompilando apenas se o texto mudou
+     */
+    public MessageTemplate getMessageTemplate(AppointmentEntity appointment) {
+        String message = appointment.getMessage() != null ? appointment.getMessage() : "";
+        if (appointment.getId() == null) {
+            return MessageTemplate.compile(message);
+        }
+        return templates.compute(appointment.getId(), (id, current) ->
+                current != null && Objects.equals(current.getSource(), message) ? current : MessageTemplate.compile(message));
     }
 }
@@ -0,0 +1,360 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.enums.EventType;
+import br.com.willianmendesf.system.model.event.AttendanceChangedEvent;
+import br.com.willianmendesf.system.repository.AttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Presenças por evento como conjuntos de bits indexados pelo id do membro, para que as análises
+ * (frequência nos últimos eventos, presentes em A e não em B, membros afastados) sejam operações
+ * AND/OR/ANDNOT entre conjuntos, sem consultar a tabela attendance.
+ * Só entram eventos com ao menos uma presença: eventos sem chamada (como o "Culto" padrão criado ao abrir
+ * uma data) não contam como falta. Montado na inicialização e atualizado após o commit de cada
+ * registro/remoção de presença (AttendanceChangedEvent).
+ * Cada evento guarda os presentes em formato compacto (MemberSet): os BitSet só existem durante as consultas
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceBitmapCache {
+
+    private static final Comparator<EventBits> CHRONOLOGICAL =
+            Comparator.comparing((EventBits event) -> event.date).thenComparing(event -> event.id);
+
+    private final AttendanceRepository attendanceRepository;
+
+    private final Map<Long, EventBits> events = new HashMap<>();
+    private final NavigableSet<EventBits> timeline = new TreeSet<>(CHRONOLOGICAL);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = attendanceRepository.findAllForBitmaps();
+
+        lock.writeLock().lock();
+        try {
+            events.clear();
+            timeline.clear();
+            for (Object[] row : rows) {
+                add((Long) row[0], (LocalDate) row[1], (EventType) row[2], (Long) row[3]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Attendance bitmaps loaded: {} presences in {} events in {} ms",
+                rows.size(), events.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent change) {
+        lock.writeLock().lock();
+        try {
+            if (change.isDeleted()) {
+                remove(change.getEventId(), change.getMemberId());
+            } else {
+                add(change.getEventId(), change.getEventDate(), change.getEventType(), change.getMemberId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Últimos eventos com chamada até a data (inclusive), do mais recente para o mais antigo
+     * @param type tipo de evento; null para todos
+     */
+    public List<Long> lastEvents(LocalDate until, EventType type, int count) {
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>(count);
+            Iterator<EventBits> iterator = timeline.descendingIterator();
+            while (iterator.hasNext() && result.size() < count) {
+                EventBits event = iterator.next();
+                if (event.date.isAfter(until) || (type != null && event.type != type)) continue;
+                result.add(event.id);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Membros presentes em pelo menos min dos eventos. Conta por contadores em bits (soma bit a bit):
+     * counters[i] guarda o bit i da contagem de presenças de cada membro
+     */
+    public BitSet presentAtLeast(List<Long> eventIds, int min) {
+        lock.readLock().lock();
+        try {
+            int width = 32 - Integer.numberOfLeadingZeros(Math.max(eventIds.size(), 1));
+            BitSet[] counters = new BitSet[width];
+            for (int i = 0; i < width; i++) counters[i] = new BitSet();
+
+            for (Long eventId : eventIds) {
+                BitSet carry = members(eventId);
+                for (int i = 0; i < width && !carry.isEmpty(); i++) {
+                    BitSet next = (BitSet) counters[i].clone();
+                    next.and(carry);
+                    counters[i].xor(carry);
+                    carry = next;
+                }
+            }
+            return atLeast(counters, min);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Membros presentes em todos os eventos de include e em nenhum de exclude
+     */
+    public BitSet presentInAllAndNone(List<Long> include, List<Long> exclude) {
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (Long eventId : include) {
+                if (result == null) {
+                    result = members(eventId);
+                } else {
+                    EventBits event = events.get(eventId);
+                    if (event == null) result.clear();
+                    else event.members.andInto(result);
+                }
+            }
+            if (result == null) return new BitSet();
+            for (Long eventId : exclude) {
+                EventBits event = events.get(eventId);
+                if (event != null) event.members.andNotFrom(result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Membros afastados: presentes em todas as semanas (com chamada) de streakWeeks semanas anteriores
+     * ao afastamento e ausentes em todas as últimas absentWeeks semanas até a data de referência.
+     * Semanas começam na segunda-feira; semanas sem nenhum evento com chamada são ignoradas, e sem nenhuma
+     * chamada numa das duas janelas o resultado é vazio
+     * @param type tipo de evento; null para todos
+     */
+    public BitSet lostMembers(LocalDate reference, EventType type, int streakWeeks, int absentWeeks) {
+        LocalDate currentWeek = reference.with(DayOfWeek.MONDAY);
+        LocalDate absentFrom = currentWeek.minusWeeks(absentWeeks - 1L);
+        LocalDate streakFrom = absentFrom.minusWeeks(streakWeeks);
+
+        lock.readLock().lock();
+        try {
+            // semana -> presentes em qualquer evento da semana
+            TreeMap<LocalDate, BitSet> weeks = new TreeMap<>();
+            for (EventBits event : timeline.subSet(first(streakFrom), true, last(reference), true)) {
+                if (type != null && event.type != type) continue;
+                event.members.orInto(weeks.computeIfAbsent(event.date.with(DayOfWeek.MONDAY), week -> new BitSet()));
+            }
+
+            BitSet regular = null;
+            for (BitSet week : weeks.headMap(absentFrom, false).values()) {
+                if (regular == null) regular = (BitSet) week.clone();
+                else regular.and(week);
+            }
+            // Sem chamada na janela de afastamento não há como saber quem faltou
+            SortedMap<LocalDate, BitSet> absent = weeks.tailMap(absentFrom, true);
+            if (regular == null || absent.isEmpty()) return new BitSet();
+            for (BitSet week : absent.values()) regular.andNot(week);
+            return regular;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Long eventId, LocalDate date, EventType type, Long memberId) {
+        EventBits event = events.get(eventId);
+        if (event == null) {
+            if (date == null) return;
+            event = new EventBits(eventId, date, type);
+            events.put(eventId, event);
+            timeline.add(event);
+        }
+        event.members.add(Math.toIntExact(memberId));
+    }
+
+    private void remove(Long eventId, Long memberId) {
+        EventBits event = events.get(eventId);
+        if (event == null) return;
+        event.members.remove(Math.toIntExact(memberId));
+        if (event.members.isEmpty()) {
+            events.remove(eventId);
+            timeline.remove(event);
+        }
+    }
+
+    /**
+     * Cópia dos presentes no evento (pode ser alterada pelo chamador)
+     */
+    private BitSet members(Long eventId) {
+        EventBits event = events.get(eventId);
+        return event != null ? event.members.toBitSet() : new BitSet();
+    }
+
+    /**
+     * Membros cuja contagem (em bits, counters[0] = bit menos significativo) é maior ou igual a min
+     */
+    private static BitSet atLeast(BitSet[] counters, int min) {
+        BitSet all = new BitSet();
+        for (BitSet counter : counters) all.or(counter);
+        if (min <= 0) return all;
+        if (min >= 1 << counters.length) return new BitSet();
+
+        // count >= min percorrendo os bits do mais significativo: greater acumula quem já é maior,
+        // equal quem tem os mesmos bits de min até aqui
+        BitSet greater = new BitSet();
+        BitSet equal = all;
+        for (int i = counters.length - 1; i >= 0; i--) {
+            if ((min & (1 << i)) != 0) {
+                equal.and(counters[i]);
+            } else {
+                BitSet above = (BitSet) equal.clone();
+                above.and(counters[i]);
+                greater.or(above);
+                equal.andNot(counters[i]);
+            }
+        }
+        greater.or(equal);
+        return greater;
+    }
+
+    private static EventBits first(LocalDate date) {
+        return new EventBits(Long.MIN_VALUE, date, null);
+    }
+
+    private static EventBits last(LocalDate date) {
+        return new EventBits(Long.MAX_VALUE, date, null);
+    }
+
+    private static final class EventBits {
+        private final Long id;
+        private final LocalDate date;
+        private final EventType type;
+        private final MemberSet members = new MemberSet();
+
+        private EventBits(Long id, LocalDate date, EventType type) {
+            this.id = id;
+            this.date = date;
+            this.type = type;
+        }
+    }
+
+    /**
+     * Presentes de um evento. Um BitSet reserva um bit para cada id até o maior id presente, e os ids
+     * de membro ficam esparsos (o gerador em bloco pula até 50 ids a cada reinício); a maioria dos eventos
+     * tem poucos presentes. Por isso os ids ficam num int[] ordenado (4 bytes por presente) enquanto ele
+     * é menor que o BitSet equivalente, e viram BitSet quando o evento fica denso (e voltam ao encolher)
+     */
+    static final class MemberSet {
+        private int[] ids = new int[4];
+        private int size;
+        // Não nulo quando denso; ids fica null
+        private BitSet bits;
+
+        void add(int id) {
+            if (bits != null) {
+                bits.set(id);
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) return;
+            index = -index - 1;
+            if (size == ids.length) ids = Arrays.copyOf(ids, Math.max(4, size * 2));
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+            switchToBitsIfDense();
+        }
+
+        void remove(int id) {
+            if (bits != null) {
+                bits.clear(id);
+                // Volta ao int[] só quando ele ocupa metade do BitSet, para não alternar a cada presença
+                int cardinality = bits.cardinality();
+                if (cardinality < (bits.length() >> 6) + 1) {
+                    ids = bits.stream().toArray();
+                    size = cardinality;
+                    bits = null;
+                }
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) return;
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            // Sem o maior id o BitSet equivalente encolhe
+            switchToBitsIfDense();
+        }
+
+        /**
+         * int[] com size ids (4 bytes cada) x BitSet com (maior id / 64 + 1) palavras de 8 bytes
+         */
+        private void switchToBitsIfDense() {
+            if (size == 0 || size <= 2 * ((ids[size - 1] >> 6) + 1)) return;
+            bits = toBitSet();
+            ids = null;
+            size = 0;
+        }
+
+        boolean isEmpty() {
+            return bits != null ? bits.isEmpty() : size == 0;
+        }
+
+        boolean isCompact() {
+            return bits == null;
+        }
+
+        /**
+         * Cópia como BitSet (pode ser alterada pelo chamador)
+         */
+        BitSet toBitSet() {
+            if (bits != null) return (BitSet) bits.clone();
+            BitSet copy = new BitSet(size > 0 ? ids[size - 1] + 1 : 0);
+            for (int i = 0; i < size; i++) copy.set(ids[i]);
+            return copy;
+        }
+
+        void orInto(BitSet target) {
+            if (bits != null) target.or(bits);
+            else for (int i = 0; i < size; i++) target.set(ids[i]);
+        }
+
+        void andInto(BitSet target) {
+            target.and(bits != null ? bits : toBitSet());
+        }
+
+        void andNotFrom(BitSet target) {
+            if (bits != null) target.andNot(bits);
+            else for (int i = 0; i < size; i++) target.clear(ids[i]);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.dto.MemberBirthdayDTO;
+import br.com.willianmendesf.system.model.entity.MemberEntity;
+import br.com.willianmendesf.system.model.event.MemberChangedEvent;
+import br.com.willianmendesf.system.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Membros agrupados pelo dia/mês de nascimento: um balde por dia do ano (calendário bissexto, 366 dias),
+ * para que os aniversariantes de um período sejam lidos direto dos baldes, sem percorrer o cadastro.
+ * Nascidos em 29/02 fazem aniversário em 28/02 nos anos não bissextos.
+ * Montado na inicialização e atualizado após o commit de cada gravação de membro (MemberChangedEvent)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BirthdayIndexCache {
+
+    public static final int MAX_DAYS = 366;
+
+    private static final int LEAP_YEAR = 2000;
+    private static final int FEB_29 = LocalDate.of(LEAP_YEAR, Month.FEBRUARY, 29).getDayOfYear();
+
+    private final MemberRepository memberRepository;
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    // dia do ano (1..366) -> membros (ids em ordem crescente)
+    private final List<Set<Long>> buckets = emptyBuckets();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = memberRepository.findAllForBirthdayIndex();
+
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            buckets.forEach(Set::clear);
+            rows.forEach(row -> link(new Node((Long) row[0], (String) row[1], (LocalDate) row[2], (String) row[3], (String) row[4])));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Birthday index loaded: {} members in {} ms", nodes.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        MemberEntity member = event.getMember();
+        if (member.getId() == null) return;
+
+        lock.writeLock().lock();
+        try {
+            Node current = nodes.remove(member.getId());
+            if (current != null) buckets.get(dayOfYear(current.nascimento)).remove(current.id);
+            if (!event.isDeleted() && member.getNascimento() != null) {
+                link(new Node(member.getId(), member.getNome(), member.getNascimento(), member.getCelular(), member.getFotoUrl()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aniversários de hoje até hoje + (days - 1), ordenados pela data e depois pelo nome
+     */
+    public List<MemberBirthdayDTO> upcoming(LocalDate today, int days) {
+        int range = Math.min(Math.max(days, 1), MAX_DAYS);
+        List<MemberBirthdayDTO> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            if (nodes.isEmpty()) return result;
+            for (int offset = 0; offset < range; offset++) {
+                LocalDate date = today.plusDays(offset);
+                collect(buckets.get(dayOfYear(date)), date, offset, result);
+                if (!date.isLeapYear() && date.getMonth() == Month.FEBRUARY && date.getDayOfMonth() == 28) {
+                    collect(buckets.get(FEB_29), date, offset, result);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparing(MemberBirthdayDTO::getDiasRestantes)
+                .thenComparing(MemberBirthdayDTO::getNome, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        return result;
+    }
+
+    private void collect(Set<Long> ids, LocalDate date, int offset, List<MemberBirthdayDTO> result) {
+        for (Long id : ids) {
+            Node node = nodes.get(id);
+            // Data de nascimento futura (cadastro incorreto) não gera aniversário
+            if (node == null || node.nascimento.isAfter(date)) continue;
+            result.add(new MemberBirthdayDTO(node.id, node.nome, node.celular, node.fotoUrl, node.nascimento,
+                    date, date.getYear() - node.nascimento.getYear(), offset));
+        }
+    }
+
+    private void link(Node node) {
+        nodes.put(node.id, node);
+        buckets.get(dayOfYear(node.nascimento)).add(node.id);
+    }
+
+    /**
+     * Posição do dia/mês no calendário de um ano bissexto, igual para qualquer ano
+     */
+    private static int dayOfYear(LocalDate date) {
+        return LocalDate.of(LEAP_YEAR, date.getMonth(), date.getDayOfMonth()).getDayOfYear();
+    }
+
+    /**
+     * Posição 0 sem uso: os baldes seguem LocalDate.getDayOfYear (1..366)
+     */
+    private static List<Set<Long>> emptyBuckets() {
+        List<Set<Long>> buckets = new ArrayList<>(MAX_DAYS + 1);
+        for (int day = 0; day <= MAX_DAYS; day++) buckets.add(new TreeSet<>());
+        return buckets;
+    }
+
+    private record Node(Long id, String nome, LocalDate nascimento, String celular, String fotoUrl) { }
+}
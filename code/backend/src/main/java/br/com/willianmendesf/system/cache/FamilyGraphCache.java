@@ -0,0 +1,233 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.entity.MemberEntity;
+import br.com.willianmendesf.system.model.event.MemberChangedEvent;
+import br.com.willianmendesf.system.repository.MemberRepository;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Grafo familiar dos membros indexado por telefone normalizado (apenas dígitos).
+ * Liga cada telefone aos membros que o possuem (telefone/celular e comercial) e aos filhos
+ * que o informaram como telefonePai/telefoneMae, para que cônjuge, pais e filhos sejam consultas em mapa.
+ * Montado na inicialização e atualizado após o commit de cada gravação de membro (MemberChangedEvent)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FamilyGraphCache {
+
+    private final MemberRepository memberRepository;
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    // telefone/celular -> membros (ids em ordem crescente para resultado estável)
+    private final Map<String, Set<Long>> owners = new HashMap<>();
+    // comercial -> membros (considerado apenas na busca de pais)
+    private final Map<String, Set<Long>> commercialOwners = new HashMap<>();
+    // telefonePai/telefoneMae -> filhos (child = true)
+    private final Map<String, Set<Long>> children = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = memberRepository.findAllForFamilyGraph();
+
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            owners.clear();
+            commercialOwners.clear();
+            children.clear();
+            rows.forEach(row -> link(new Node((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (Boolean) row[4], (String) row[5], (String) row[6], (String) row[7], (String) row[8], (String) row[9])));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Family graph loaded: {} members, {} phones in {} ms",
+                rows.size(), owners.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        MemberEntity member = event.getMember();
+        if (member.getId() == null) return;
+
+        lock.writeLock().lock();
+        try {
+            Node current = nodes.remove(member.getId());
+            if (current != null) unlink(current);
+            if (!event.isDeleted()) link(new Node(member));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Membro dono do telefone (telefone ou celular); usado para o cônjuge
+     */
+    public Node findOwner(String phone) {
+        lock.readLock().lock();
+        try {
+            return first(owners.get(PhoneUtil.normalize(phone)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Membro dono do telefone (telefone, celular ou comercial); usado para pai/mãe
+     */
+    public Node findParent(String phone) {
+        lock.readLock().lock();
+        try {
+            String key = PhoneUtil.normalize(phone);
+            Node owner = first(owners.get(key));
+            Node commercial = first(commercialOwners.get(key));
+            if (owner == null) return commercial;
+            if (commercial == null) return owner;
+            return owner.getId() <= commercial.getId() ? owner : commercial;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Filhos que informaram o telefone como telefonePai ou telefoneMae
+     */
+    public List<Node> findChildren(String phone) {
+        lock.readLock().lock();
+        try {
+            return resolve(children.get(PhoneUtil.normalize(phone)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Filhos do membro pelo telefone ou celular dele
+     */
+    public List<Node> findChildrenOf(Node member) {
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = new TreeSet<>();
+            if (member.telefone != null) ids.addAll(children.getOrDefault(member.telefone, Set.of()));
+            if (member.celular != null) ids.addAll(children.getOrDefault(member.celular, Set.of()));
+            ids.remove(member.getId());
+            return resolve(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Node getMember(Long id) {
+        lock.readLock().lock();
+        try {
+            return nodes.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(Node node) {
+        nodes.put(node.getId(), node);
+        add(owners, node.telefone, node.getId());
+        add(owners, node.celular, node.getId());
+        add(commercialOwners, node.comercial, node.getId());
+        if (node.child) {
+            add(children, node.telefonePai, node.getId());
+            add(children, node.telefoneMae, node.getId());
+        }
+    }
+
+    private void unlink(Node node) {
+        remove(owners, node.telefone, node.getId());
+        remove(owners, node.celular, node.getId());
+        remove(commercialOwners, node.comercial, node.getId());
+        remove(children, node.telefonePai, node.getId());
+        remove(children, node.telefoneMae, node.getId());
+    }
+
+    private Node first(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) return null;
+        return nodes.get(ids.iterator().next());
+    }
+
+    private List<Node> resolve(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        List<Node> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Node node = nodes.get(id);
+            if (node != null) result.add(node);
+        }
+        result.sort(Comparator.comparing(Node::getId));
+        return result;
+    }
+
+    private static void add(Map<String, Set<Long>> map, String phone, Long id) {
+        if (phone != null) map.computeIfAbsent(phone, key -> new TreeSet<>()).add(id);
+    }
+
+    private static void remove(Map<String, Set<Long>> map, String phone, Long id) {
+        if (phone == null) return;
+        Set<Long> ids = map.get(phone);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) map.remove(phone);
+    }
+
+    /**
+     * Dados do membro guardados no grafo: o necessário para as prévias de relacionamento
+     * e os telefones já normalizados
+     */
+    @Getter
+    public static final class Node {
+        private final Long id;
+        private final String nome;
+        private final String fotoUrl;
+        private final String celularOriginal;
+        private final boolean child;
+        private final String telefone;
+        private final String celular;
+        private final String comercial;
+        private final String telefonePai;
+        private final String telefoneMae;
+        private final String conjugueTelefone;
+
+        private Node(MemberEntity member) {
+            this(member.getId(), member.getNome(), member.getFotoUrl(), member.getCelular(), member.getChild(),
+                    member.getTelefone(), member.getComercial(), member.getTelefonePai(), member.getTelefoneMae(),
+                    member.getConjugueTelefone());
+        }
+
+        private Node(Long id, String nome, String fotoUrl, String celular, Boolean child, String telefone,
+                     String comercial, String telefonePai, String telefoneMae, String conjugueTelefone) {
+            this.id = id;
+            this.nome = nome;
+            this.fotoUrl = fotoUrl;
+            this.celularOriginal = celular;
+            this.child = Boolean.TRUE.equals(child);
+            this.telefone = PhoneUtil.normalize(telefone);
+            this.celular = PhoneUtil.normalize(celular);
+            this.comercial = PhoneUtil.normalize(comercial);
+            this.telefonePai = PhoneUtil.normalize(telefonePai);
+            this.telefoneMae = PhoneUtil.normalize(telefoneMae);
+            this.conjugueTelefone = PhoneUtil.normalize(conjugueTelefone);
+        }
+    }
+}
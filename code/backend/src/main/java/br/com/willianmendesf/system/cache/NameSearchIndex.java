@@ -0,0 +1,217 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.dto.PersonSuggestionDTO;
+import br.com.willianmendesf.system.service.utils.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice em memória de nomes para busca por trecho do nome, sem acentos (ver TextNormalizer).
+ * Termos com 3 ou mais caracteres são resolvidos por trigramas; termos menores, por prefixo de palavra.
+ * Cada termo da busca precisa aparecer no nome; resultados que começam com a busca vêm primeiro
+ */
+public class NameSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> trigrams = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> words = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long id, String name) {
+        if (id == null) return;
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.get(id);
+            if (current != null && current.name.equals(name)) return;
+            if (current != null) {
+                entries.remove(id);
+                unindex(id, current);
+            }
+            if (name != null && !name.isBlank()) {
+                Entry entry = new Entry(name, TextNormalizer.fold(name));
+                entries.put(id, entry);
+                index(id, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.remove(id);
+            if (current != null) unindex(id, current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            trigrams.clear();
+            words.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids dos nomes que contêm todos os termos da busca, na ordem de relevância
+     */
+    public List<Long> searchIds(String query, int limit) {
+        return search(query, limit).stream().map(PersonSuggestionDTO::getId).toList();
+    }
+
+    public List<PersonSuggestionDTO> search(String query, int limit) {
+        String folded = TextNormalizer.fold(query);
+        if (folded.isEmpty() || limit <= 0) return List.of();
+        String[] terms = folded.split(" ");
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String term : terms) {
+                Set<Long> matches = term.length() >= GRAM ? byTrigrams(term) : byWordPrefix(term);
+                candidates = candidates == null ? matches : intersect(candidates, matches);
+                if (candidates.isEmpty()) return List.of();
+            }
+
+            List<Match> results = new ArrayList<>();
+            for (Long id : candidates) {
+                Entry entry = entries.get(id);
+                int rank = rank(entry, folded, terms);
+                if (rank >= 0) results.add(new Match(id, entry, rank));
+            }
+
+            results.sort(Comparator.comparingInt((Match m) -> m.rank).thenComparing(m -> m.entry.folded));
+            List<PersonSuggestionDTO> suggestions = new ArrayList<>(Math.min(limit, results.size()));
+            for (int i = 0; i < results.size() && i < limit; i++) {
+                suggestions.add(new PersonSuggestionDTO(results.get(i).id, results.get(i).entry.name));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 0 = nome começa com a busca, 1 = todos os termos iniciam palavras, 2 = termos no meio de palavras,
+     * -1 = falso positivo dos trigramas (termo não aparece no nome)
+     */
+    private int rank(Entry entry, String folded, String[] terms) {
+        boolean allWordPrefixes = true;
+        for (String term : terms) {
+            if (!entry.folded.contains(term)) return -1;
+            if (!startsWord(entry, term)) allWordPrefixes = false;
+        }
+        if (entry.folded.startsWith(folded)) return 0;
+        return allWordPrefixes ? 1 : 2;
+    }
+
+    private boolean startsWord(Entry entry, String term) {
+        for (String word : entry.words) {
+            if (word.startsWith(term)) return true;
+        }
+        return false;
+    }
+
+    private Set<Long> byTrigrams(String term) {
+        Set<Long> result = null;
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            Set<Long> ids = trigrams.get(term.substring(i, i + GRAM));
+            if (ids == null) return Set.of();
+            result = result == null ? ids : intersect(result, ids);
+            if (result.isEmpty()) return result;
+        }
+        return result;
+    }
+
+    private Set<Long> byWordPrefix(String term) {
+        Set<Long> result = new HashSet<>();
+        for (Set<Long> ids : words.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+            result.addAll(ids);
+        }
+        return result;
+    }
+
+    private static Set<Long> intersect(Set<Long> a, Set<Long> b) {
+        Set<Long> smaller = a.size() <= b.size() ? a : b;
+        Set<Long> larger = smaller == a ? b : a;
+        Set<Long> result = new HashSet<>();
+        for (Long id : smaller) {
+            if (larger.contains(id)) result.add(id);
+        }
+        return result;
+    }
+
+    private void index(Long id, Entry entry) {
+        for (String gram : grams(entry.folded)) {
+            trigrams.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+        for (String word : entry.words) {
+            words.computeIfAbsent(word, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void unindex(Long id, Entry entry) {
+        for (String gram : grams(entry.folded)) {
+            removeFrom(trigrams, gram, id);
+        }
+        for (String word : entry.words) {
+            removeFrom(words, word, id);
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<Long>> map, String key, Long id) {
+        Set<Long> ids = map.get(key);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) map.remove(key);
+    }
+
+    private static Collection<String> grams(String folded) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= folded.length(); i++) {
+            grams.add(folded.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final String folded;
+        private final String[] words;
+
+        private Entry(String name, String folded) {
+            this.name = name;
+            this.folded = folded;
+            this.words = folded.isEmpty() ? new String[0] : folded.split(" ");
+        }
+    }
+
+    private record Match(Long id, Entry entry, int rank) { }
+}
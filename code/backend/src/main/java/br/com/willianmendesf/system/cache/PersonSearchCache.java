@@ -0,0 +1,81 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.dto.PersonSuggestionDTO;
+import br.com.willianmendesf.system.model.event.MemberChangedEvent;
+import br.com.willianmendesf.system.model.event.VisitorChangedEvent;
+import br.com.willianmendesf.system.repository.MemberRepository;
+import br.com.willianmendesf.system.repository.VisitorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Índices de busca por nome de membros (MemberEntity.nome) e visitantes (VisitorEntity.nomeCompleto).
+ * Montados na inicialização e atualizados após o commit de cada gravação (MemberChangedEvent/VisitorChangedEvent)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersonSearchCache {
+
+    public static final int MAX_RESULTS = 50;
+
+    private final MemberRepository memberRepository;
+    private final VisitorRepository visitorRepository;
+
+    private final NameSearchIndex members = new NameSearchIndex();
+    private final NameSearchIndex visitors = new NameSearchIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        members.clear();
+        visitors.clear();
+        memberRepository.findAllIdAndNome().forEach(row -> members.put((Long) row[0], (String) row[1]));
+        visitorRepository.findAllIdAndNomeCompleto().forEach(row -> visitors.put((Long) row[0], (String) row[1]));
+        log.info("Name search index loaded: {} members, {} visitors in {} ms",
+                members.size(), visitors.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.isDeleted()) {
+            members.remove(event.getMember().getId());
+        } else {
+            members.put(event.getMember().getId(), event.getMember().getNome());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVisitorChanged(VisitorChangedEvent event) {
+        if (event.isDeleted()) {
+            visitors.remove(event.getVisitor().getId());
+        } else {
+            visitors.put(event.getVisitor().getId(), event.getVisitor().getNomeCompleto());
+        }
+    }
+
+    public List<PersonSuggestionDTO> searchMembers(String query, int limit) {
+        return members.search(query, clamp(limit));
+    }
+
+    public List<PersonSuggestionDTO> searchVisitors(String query, int limit) {
+        return visitors.search(query, clamp(limit));
+    }
+
+    /**
+     * Ids de visitantes cujo nome contém todos os termos, em ordem de relevância
+     */
+    public List<Long> searchVisitorIds(String query, int limit) {
+        return visitors.searchIds(query, limit);
+    }
+
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RESULTS));
+    }
+}
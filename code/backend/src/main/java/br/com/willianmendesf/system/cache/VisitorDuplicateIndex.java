@@ -0,0 +1,150 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.entity.VisitorEntity;
+import br.com.willianmendesf.system.model.event.VisitorChangedEvent;
+import br.com.willianmendesf.system.repository.VisitorRepository;
+import br.com.willianmendesf.system.service.utils.NameFingerprint;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de visitantes pela chave fonética do nome (NameFingerprint) com o telefone normalizado de cada um,
+ * para reconhecer quem já esteve na igreja mesmo com outra grafia do nome.
+ * Dois registros são a mesma pessoa quando têm a mesma chave de nome e o mesmo telefone,
+ * ou quando um dos dois não tem telefone. Montado na inicialização e atualizado após o commit de cada
+ * gravação de visitante (VisitorChangedEvent), inclusive as da importação
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisitorDuplicateIndex {
+
+    private final VisitorRepository visitorRepository;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // chave do nome -> visitantes (ids em ordem crescente)
+    private final Map<String, Set<Long>> byName = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = visitorRepository.findAllIdNomeAndTelefone();
+
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            byName.clear();
+            rows.forEach(row -> link(new Entry((Long) row[0], NameFingerprint.of((String) row[1]),
+                    PhoneUtil.normalize((String) row[2]))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Visitor duplicate index loaded: {} visitors, {} name keys in {} ms",
+                entries.size(), byName.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVisitorChanged(VisitorChangedEvent event) {
+        VisitorEntity visitor = event.getVisitor();
+        if (visitor.getId() == null) return;
+
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.remove(visitor.getId());
+            if (current != null) unlink(current);
+            if (!event.isDeleted()) {
+                link(new Entry(visitor.getId(), NameFingerprint.of(visitor.getNomeCompleto()),
+                        PhoneUtil.normalize(visitor.getTelefone())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Visitantes já cadastrados que provavelmente são a pessoa com esse nome e telefone
+     */
+    public List<Long> findMatches(String nome, String telefone) {
+        String fingerprint = NameFingerprint.of(nome);
+        if (fingerprint.isEmpty()) return List.of();
+        String phone = PhoneUtil.normalize(telefone);
+
+        lock.readLock().lock();
+        try {
+            List<Long> matches = new ArrayList<>();
+            for (Long id : byName.getOrDefault(fingerprint, Set.of())) {
+                Entry entry = entries.get(id);
+                if (phone == null || entry.phone() == null || phone.equals(entry.phone())) matches.add(id);
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Candidatos a grupos de 2 ou mais registros da mesma pessoa, para revisão antes da unificação. Numa chave de nome com um único telefone, os registros
+     * sem telefone entram no grupo desse telefone; com telefones diferentes, cada telefone é uma pessoa
+     * e os registros sem telefone ficam num grupo à parte (não há como saber de quem são)
+     */
+    public List<List<Long>> findGroups() {
+        lock.readLock().lock();
+        try {
+            List<List<Long>> groups = new ArrayList<>();
+            for (Set<Long> ids : byName.values()) {
+                if (ids.size() < 2) continue;
+
+                Map<String, List<Long>> byPhone = new TreeMap<>();
+                List<Long> withoutPhone = new ArrayList<>();
+                for (Long id : ids) {
+                    String phone = entries.get(id).phone();
+                    if (phone == null) withoutPhone.add(id);
+                    else byPhone.computeIfAbsent(phone, key -> new ArrayList<>()).add(id);
+                }
+
+                if (byPhone.size() == 1) {
+                    List<Long> group = byPhone.values().iterator().next();
+                    group.addAll(withoutPhone);
+                    withoutPhone.clear();
+                }
+                byPhone.values().stream().filter(group -> group.size() > 1).forEach(groups::add);
+                if (withoutPhone.size() > 1) groups.add(withoutPhone);
+            }
+            groups.forEach(group -> group.sort(null));
+            return groups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(Entry entry) {
+        entries.put(entry.id(), entry);
+        if (!entry.fingerprint().isEmpty()) {
+            byName.computeIfAbsent(entry.fingerprint(), key -> new TreeSet<>()).add(entry.id());
+        }
+    }
+
+    private void unlink(Entry entry) {
+        Set<Long> ids = byName.get(entry.fingerprint());
+        if (ids == null) return;
+        ids.remove(entry.id());
+        if (ids.isEmpty()) byName.remove(entry.fingerprint());
+    }
+
+    private record Entry(Long id, String fingerprint, String phone) { }
+}
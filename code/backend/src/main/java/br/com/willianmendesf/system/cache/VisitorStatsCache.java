@@ -0,0 +1,187 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.dto.VisitorStatsDTO;
+import br.com.willianmendesf.system.model.entity.VisitorEntity;
+import br.com.willianmendesf.system.model.event.VisitorChangedEvent;
+import br.com.willianmendesf.system.repository.VisitorRepository;
+import br.com.willianmendesf.system.service.utils.NameFingerprint;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contagens diárias de visitantes (total, primeira visita, SP x outros estados, acompanhantes) para os gráficos,
+ * sem varrer a tabela a cada consulta. Montado na inicialização e atualizado após o commit de cada gravação
+ * de visitante (VisitorChangedEvent): a contribuição anterior do visitante sai do dia e a nova entra.
+ * Primeira visita é a visita mais antiga de cada pessoa, identificada pelo telefone e pela chave do nome
+ * (NameFingerprint): acompanhantes herdam o telefone do visitante principal e contam como pessoas distintas.
+ * Visitantes sem telefone contam sempre como primeira visita
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisitorStatsCache {
+
+    private static final Comparator<Visit> VISIT_ORDER = Comparator.comparing(Visit::dataVisita).thenComparing(Visit::id);
+
+    private final VisitorRepository visitorRepository;
+
+    private final Map<Long, Visit> visits = new HashMap<>();
+    private final NavigableMap<LocalDate, Day> days = new TreeMap<>();
+    // pessoa (telefone normalizado + chave do nome) -> visitas em ordem de data; a primeira é a primeira visita
+    private final Map<String, TreeSet<Visit>> visitsByPerson = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = visitorRepository.findAllForStats();
+
+        lock.writeLock().lock();
+        try {
+            visits.clear();
+            days.clear();
+            visitsByPerson.clear();
+            rows.forEach(row -> add(new Visit((Long) row[0], (LocalDate) row[1], !Boolean.FALSE.equals(row[2]),
+                    person((String) row[3], (String) row[5]), row[4] != null)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Visitor stats loaded: {} visitors over {} days in {} ms",
+                visits.size(), days.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVisitorChanged(VisitorChangedEvent event) {
+        VisitorEntity visitor = event.getVisitor();
+        if (visitor.getId() == null) return;
+
+        lock.writeLock().lock();
+        try {
+            Visit current = visits.get(visitor.getId());
+            if (current != null) remove(current);
+            if (!event.isDeleted() && visitor.getDataVisita() != null) {
+                // getId() do proxy LAZY não inicializa o visitante principal
+                add(new Visit(visitor.getId(), visitor.getDataVisita(), !Boolean.FALSE.equals(visitor.getEDeSP()),
+                        person(visitor.getTelefone(), visitor.getNomeCompleto()), visitor.getMainVisitor() != null));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Dias com visitantes entre start e end (inclusive), do mais antigo para o mais recente
+     */
+    public List<VisitorStatsDTO> getRange(LocalDate start, LocalDate end) {
+        lock.readLock().lock();
+        try {
+            return toDTOs(days.subMap(start, true, end, true));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Domingos com visitantes, do mais antigo para o mais recente
+     */
+    public List<VisitorStatsDTO> getSundays() {
+        lock.readLock().lock();
+        try {
+            NavigableMap<LocalDate, Day> sundays = new TreeMap<>();
+            days.forEach((date, day) -> {
+                if (date.getDayOfWeek() == DayOfWeek.SUNDAY) sundays.put(date, day);
+            });
+            return toDTOs(sundays);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<VisitorStatsDTO> toDTOs(NavigableMap<LocalDate, Day> range) {
+        List<VisitorStatsDTO> result = new ArrayList<>(range.size());
+        range.forEach((date, day) -> result.add(new VisitorStatsDTO(date, day.total, day.primeiraVez,
+                day.deSP, day.total - day.deSP, day.acompanhantes)));
+        return result;
+    }
+
+    private void add(Visit visit) {
+        visits.put(visit.id(), visit);
+        Day day = days.computeIfAbsent(visit.dataVisita(), date -> new Day());
+        day.total++;
+        if (visit.deSP()) day.deSP++;
+        if (visit.companion()) day.acompanhantes++;
+
+        if (visit.person() == null) {
+            firstVisit(visit, 1);
+            return;
+        }
+        TreeSet<Visit> samePerson = visitsByPerson.computeIfAbsent(visit.person(), person -> new TreeSet<>(VISIT_ORDER));
+        Visit previousFirst = samePerson.isEmpty() ? null : samePerson.first();
+        samePerson.add(visit);
+        if (samePerson.first() == visit) {
+            if (previousFirst != null) firstVisit(previousFirst, -1);
+            firstVisit(visit, 1);
+        }
+    }
+
+    private void remove(Visit visit) {
+        visits.remove(visit.id());
+        Day day = days.get(visit.dataVisita());
+        day.total--;
+        if (visit.deSP()) day.deSP--;
+        if (visit.companion()) day.acompanhantes--;
+
+        if (visit.person() == null) {
+            firstVisit(visit, -1);
+        } else {
+            TreeSet<Visit> samePerson = visitsByPerson.get(visit.person());
+            boolean wasFirst = samePerson.first() == visit;
+            samePerson.remove(visit);
+            if (wasFirst) {
+                firstVisit(visit, -1);
+                if (!samePerson.isEmpty()) firstVisit(samePerson.first(), 1);
+            }
+            if (samePerson.isEmpty()) visitsByPerson.remove(visit.person());
+        }
+
+        if (day.total == 0) days.remove(visit.dataVisita());
+    }
+
+    /**
+     * Chave da pessoa, ou null sem telefone
+     */
+    private static String person(String telefone, String nome) {
+        String phone = PhoneUtil.normalize(telefone);
+        return phone == null ? null : phone + "|" + NameFingerprint.of(nome);
+    }
+
+    private void firstVisit(Visit visit, int delta) {
+        days.get(visit.dataVisita()).primeiraVez += delta;
+    }
+
+    private record Visit(Long id, LocalDate dataVisita, boolean deSP, String person, boolean companion) { }
+
+    private static final class Day {
+        private long total;
+        private long primeiraVez;
+        private long deSP;
+        private long acompanhantes;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.willianmendesf.system.configuration;
+
+import br.com.willianmendesf.system.model.IdAllocation;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Geradores de id em bloco (pooled) das tabelas de maior volume: o Hibernate reserva IdAllocation.SIZE ids
+ * por consulta e, sem IDENTITY, consegue agrupar os INSERTs em lotes JDBC (hibernate.jdbc.batch_size).
+ * No MySQL cada sequência é uma tabela de uma linha (next_val), criada pelo ddl-auto com valor inicial 1;
+ * aqui ela é ajustada para depois do maior id existente, já que essas tabelas usavam AUTO_INCREMENT.
+ * Roda ao criar o bean (após o schema update e antes dos agendamentos começarem a gravar)
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer {
+
+    // tabela da sequência -> tabela da entidade
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "register_seq", "register",
+            "visitors_seq", "visitors",
+            "attendance_seq", "attendance",
+            "appointment_executions_seq", "appointment_executions"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory só como dependência: garante que o schema (tabelas *_seq) já foi atualizado
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCES.forEach(this::align);
+    }
+
+    /**
+     * O otimizador pooled entrega os ids (next_val - IdAllocation.SIZE, next_val], então next_val precisa
+     * ficar pelo menos IdAllocation.SIZE acima do maior id da tabela
+     */
+    void align(String sequence, String table) {
+        long floor = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class) + IdAllocation.SIZE;
+        int updated = jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", floor, floor);
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + sequence, Long.class);
+        if (rows == null || rows == 0) {
+            jdbcTemplate.update("INSERT INTO " + sequence + " (next_val) VALUES (?)", floor);
+            updated = 1;
+        }
+        if (updated > 0) {
+            log.info("Id sequence {} moved to {} (max id in {} + {})", sequence, floor, table, IdAllocation.SIZE);
+        }
+    }
+}
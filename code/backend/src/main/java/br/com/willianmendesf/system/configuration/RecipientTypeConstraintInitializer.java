@@ -0,0 +1,54 @@
+package br.com.willianmendesf.system.configuration;
+
+import br.com.willianmendesf.system.model.enums.RecipientType;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * appointments.recipient_type guarda o ordinal de RecipientType e o Hibernate cria a coluna com
+ * CHECK (recipient_type between 0 and N). O ddl-auto update não altera constraints de colunas existentes,
+ * então bancos criados antes de um novo valor (MEMBER_GROUP) recusariam o INSERT; aqui a constraint é
+ * recriada com o intervalo atual do enum. Roda ao criar o bean, após o schema update
+ */
+@Slf4j
+@Component
+public class RecipientTypeConstraintInitializer {
+
+    private static final String TABLE = "appointments";
+    private static final String COLUMN = "recipient_type";
+    private static final String CONSTRAINT = "appointments_recipient_type_chk";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory só como dependência: garante que o schema já foi atualizado
+    public RecipientTypeConstraintInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void widenConstraint() {
+        String expected = "between 0 and " + (RecipientType.values().length - 1);
+        List<Object[]> checks = jdbcTemplate.query(
+                "SELECT cc.CONSTRAINT_NAME, cc.CHECK_CLAUSE FROM information_schema.CHECK_CONSTRAINTS cc " +
+                "JOIN information_schema.TABLE_CONSTRAINTS tc ON tc.CONSTRAINT_SCHEMA = cc.CONSTRAINT_SCHEMA " +
+                "AND tc.CONSTRAINT_NAME = cc.CONSTRAINT_NAME " +
+                "WHERE tc.TABLE_SCHEMA = DATABASE() AND tc.TABLE_NAME = ? AND tc.CONSTRAINT_TYPE = 'CHECK' " +
+                "AND cc.CHECK_CLAUSE LIKE ?",
+                (rs, row) -> new Object[]{rs.getString(1), rs.getString(2)},
+                TABLE, "%" + COLUMN + "%");
+
+        if (checks.size() == 1 && ((String) checks.get(0)[1]).toLowerCase().contains(expected)) return;
+
+        for (Object[] check : checks) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP CHECK `" + check[0] + "`");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + CONSTRAINT +
+                " CHECK (" + COLUMN + " " + expected + ")");
+        log.info("Check constraint on {}.{} recreated as {} {}", TABLE, COLUMN, COLUMN, expected);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.willianmendesf.system.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Pools de threads limitados para tarefas em segundo plano disparadas por requisições HTTP
+ */
+@Configuration
+public class TaskExecutorConfig {
+
+    @Value("${whatsapp.bulk.workers:4}")
+    private int bulkWorkers;
+
+    @Value("${whatsapp.bulk.queue-capacity:200}")
+    private int bulkQueueCapacity;
+
+    @Value("${import.workers:2}")
+    private int importWorkers;
+
+    @Value("${import.queue-capacity:10}")
+    private int importQueueCapacity;
+
+    @Bean(name = "whatsappBulkExecutor")
+    public ThreadPoolTaskExecutor whatsappBulkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bulkWorkers);
+        executor.setMaxPoolSize(bulkWorkers);
+        executor.setQueueCapacity(bulkQueueCapacity);
+        executor.setThreadNamePrefix("whatsapp-bulk-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "importExecutor")
+    public ThreadPoolTaskExecutor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(importWorkers);
+        executor.setMaxPoolSize(importWorkers);
+        executor.setQueueCapacity(importQueueCapacity);
+        executor.setThreadNamePrefix("import-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,9 +1,12 @@
 package br.com.willianmendesf.system.controller;
 
+import br.com.willianmendesf.system.model.dto.AttendanceCohortDTO;
 import br.com.willianmendesf.system.model.dto.AttendanceReportDTO;
 import br.com.willianmendesf.system.model.dto.AttendanceStatsDTO;
 import br.com.willianmendesf.system.model.dto.EventDTO;
 import br.com.willianmendesf.system.model.dto.MemberAttendanceDTO;
+import br.com.willianmendesf.system.model.enums.EventType;
+import br.com.willianmendesf.system.service.AttendanceAnalyticsService;
 import br.com.willianmendesf.system.service.AttendanceService;
 import br.com.willianmendesf.system.service.EventService;
 import lombok.AllArgsConstructor;
@@ -24,6 +27,7 @@ public class AttendanceController {
 
     private final EventService eventService;
     private final AttendanceService attendanceService;
+    private final AttendanceAnalyticsService attendanceAnalyticsService;
 
     @GetMapping("/events")
     public ResponseEntity<List<EventDTO>> getEvents(@RequestParam(required = false) LocalDate date) {
@@ -119,5 +123,41 @@ public class AttendanceController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
 
+    /**
+     * Membros presentes em pelo menos min dos últimos last eventos com chamada até a data (padrão: hoje)
+     */
+    @GetMapping("/attendance/analytics/frequent")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public ResponseEntity<AttendanceCohortDTO> getFrequentMembers(
+            @RequestParam(defaultValue = "4") int last,
+            @RequestParam(defaultValue = "3") int min,
+            @RequestParam(required = false) EventType type,
+            @RequestParam(required = false) LocalDate until) {
+        return ResponseEntity.ok(attendanceAnalyticsService.getFrequent(last, min, type, until));
+    }
+
+    /**
+     * Membros presentes em todos os eventos de present e em nenhum dos eventos de absent
+     */
+    @GetMapping("/attendance/analytics/present-absent")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public ResponseEntity<AttendanceCohortDTO> getPresentAbsent(
+            @RequestParam List<Long> present,
+            @RequestParam(required = false) List<Long> absent) {
+        return ResponseEntity.ok(attendanceAnalyticsService.getPresentAbsent(present, absent));
+    }
+
+    /**
+     * Membros afastados: vinham toda semana por streakWeeks semanas e faltaram nas últimas absentWeeks
+     */
+    @GetMapping("/attendance/analytics/lost")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public ResponseEntity<AttendanceCohortDTO> getLostMembers(
+            @RequestParam(defaultValue = "12") int streakWeeks,
+            @RequestParam(defaultValue = "6") int absentWeeks,
+            @RequestParam(required = false) EventType type,
+            @RequestParam(required = false) LocalDate reference) {
+        return ResponseEntity.ok(attendanceAnalyticsService.getLost(streakWeeks, absentWeeks, type, reference));
+    }
+}
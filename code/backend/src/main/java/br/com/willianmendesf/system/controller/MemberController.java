@@ -1,18 +1,35 @@
 package br.com.willianmendesf.system.controller;
 
-import br.com.willianmendesf.system.model.dto.ImportResultDTO;
+import br.com.willianmendesf.system.cache.BirthdayIndexCache;
+import br.com.willianmendesf.system.cache.PersonSearchCache;
+import br.com.willianmendesf.system.model.dto.ImportJobDTO;
+import br.com.willianmendesf.system.model.dto.MemberBirthdayDTO;
+import br.com.willianmendesf.system.model.dto.MemberBulkPatchItemDTO;
+import br.com.willianmendesf.system.model.dto.MemberBulkPatchResultDTO;
+import br.com.willianmendesf.system.model.dto.MemberChangesDTO;
 import br.com.willianmendesf.system.model.dto.MemberDTO;
+import br.com.willianmendesf.system.model.dto.MemberFamilyDTO;
+import br.com.willianmendesf.system.model.dto.MemberFilterDTO;
+import br.com.willianmendesf.system.model.dto.PageResponseDTO;
+import br.com.willianmendesf.system.model.dto.PersonSuggestionDTO;
 import br.com.willianmendesf.system.model.dto.MemberSpouseDTO;
 import br.com.willianmendesf.system.model.dto.MemberChildrenDTO;
 import br.com.willianmendesf.system.model.entity.MemberEntity;
 import br.com.willianmendesf.system.repository.MemberRepository;
 import br.com.willianmendesf.system.repository.GroupRepository;
+import br.com.willianmendesf.system.service.ImportJobService;
+import br.com.willianmendesf.system.service.ImportJobService.ImportType;
+import br.com.willianmendesf.system.service.MemberChangeFeedService;
+import br.com.willianmendesf.system.service.MemberExportService;
 import br.com.willianmendesf.system.service.MemberImportService;
 import br.com.willianmendesf.system.service.MemberService;
 import br.com.willianmendesf.system.service.storage.StorageService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -20,7 +37,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -34,6 +54,11 @@ public class MemberController {
     private final GroupRepository groupRepository;
     private final StorageService storageService;
     private final MemberImportService memberImportService;
+    private final MemberExportService memberExportService;
+    private final ImportJobService importJobService;
+    private final MemberChangeFeedService memberChangeFeedService;
+    private final PersonSearchCache personSearchCache;
+    private final BirthdayIndexCache birthdayIndexCache;
 
     @GetMapping
     @PreAuthorize("hasAuthority('READ_MEMBERS')")
@@ -44,6 +69,47 @@ public class MemberController {
         return ResponseEntity.ok(service.getAll());
     }
 
+    /**
+     * Listagem paginada com filtros (nome por prefixo, groupId, tipoCadastro, child, intercessor, cidade)
+     * Ex.: /members/page?page=0&size=50&sort=nome,asc&nome=Jo&child=false
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public ResponseEntity<PageResponseDTO<MemberDTO>> getPage(MemberFilterDTO filter,
+                                                              @PageableDefault(size = 50, sort = "nome") Pageable pageable) {
+        return ResponseEntity.ok(service.getPage(filter, pageable));
+    }
+
+    /**
+     * Busca rápida por nome (typeahead), sem diferenciar acentos
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public ResponseEntity<List<PersonSuggestionDTO>> search(@RequestParam String q,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(personSearchCache.searchMembers(q, limit));
+    }
+
+    /**
+     * Aniversariantes de hoje e dos próximos dias (days = 1 retorna só os de hoje; máximo de 366)
+     */
+    @GetMapping("/birthdays")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public ResponseEntity<List<MemberBirthdayDTO>> getBirthdays(@RequestParam(defaultValue = "7") int days) {
+        return ResponseEntity.ok(birthdayIndexCache.upcoming(LocalDate.now(), days));
+    }
+
+    /**
+     * Alterações desde o cursor (criados/alterados e ids excluídos), para sincronização incremental.
+     * Sem since retorna tudo desde o início; repetir com o cursor retornado enquanto hasMore for true
+     */
+    @GetMapping("/changes")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public ResponseEntity<MemberChangesDTO> getChanges(@RequestParam(required = false) String since,
+                                                       @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(memberChangeFeedService.getChanges(since, limit));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('READ_MEMBERS')")
     public ResponseEntity<MemberDTO> getById(@PathVariable Long id) {
@@ -93,6 +159,12 @@ public class MemberController {
         }
     }
 
+    @GetMapping("/{id}/family")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public ResponseEntity<MemberFamilyDTO> getFamily(@PathVariable Long id) {
+        return ResponseEntity.ok(service.getFamily(id));
+    }
+
     @PostMapping
     @PreAuthorize("hasAuthority('WRITE_MEMBERS')")
     public ResponseEntity<MemberDTO> create(@RequestBody MemberEntity member) {
@@ -120,6 +192,16 @@ public class MemberController {
         }
     }
 
+    /**
+     * Edição em massa (ex.: mover membros para um grupo, marcar intercessores) numa única transação.
+     * Cada item informa id, a versão lida e as alterações; o resultado traz a situação de cada linha
+     */
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasAuthority('WRITE_MEMBERS')")
+    public ResponseEntity<MemberBulkPatchResultDTO> bulkPatch(@RequestBody List<MemberBulkPatchItemDTO> items) {
+        return ResponseEntity.ok(service.bulkPatch(items));
+    }
+
     @PatchMapping("/{id}")
     @PreAuthorize("hasAuthority('WRITE_MEMBERS')")
     public ResponseEntity<HttpStatus> updateUserById(@PathVariable Long id, @RequestBody MemberEntity member) {
@@ -185,26 +267,24 @@ public class MemberController {
         }
     }
 
+    /**
+     * Importação em segundo plano - retorna o jobId imediatamente
+     * POST /members/import
+     */
     @PostMapping("/import")
     @PreAuthorize("hasAuthority('WRITE_MEMBERS')")
-    public ResponseEntity<ImportResultDTO> importMembers(@RequestParam("file") MultipartFile file) {
-        try {
-            if (file == null || file.isEmpty()) {
-                ImportResultDTO errorResult = new ImportResultDTO();
-                errorResult.addError(0, "Arquivo não fornecido ou vazio");
-                return ResponseEntity.badRequest().body(errorResult);
-            }
+    public ResponseEntity<ImportJobDTO> importMembers(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobService.submit(ImportType.MEMBERS, file));
+    }
 
-            ImportResultDTO result = memberImportService.importMembers(file);
-            log.info("Import completed: {} success, {} errors", result.getSuccessCount(), result.getErrorCount());
-            
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error importing members", e);
-            ImportResultDTO errorResult = new ImportResultDTO();
-            errorResult.addError(0, "Erro ao processar importação: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResult);
-        }
+    /**
+     * Progresso e resultado de uma importação
+     * GET /members/import/{jobId}
+     */
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasAuthority('WRITE_MEMBERS')")
+    public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(importJobService.getJob(ImportType.MEMBERS, jobId));
     }
 
     @GetMapping("/import/template")
@@ -228,4 +308,26 @@ public class MemberController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * Exporta todos os membros nas colunas do modelo de importação.
+     * O arquivo é escrito direto na resposta enquanto as linhas são lidas do banco
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('READ_MEMBERS')")
+    public void export(@RequestParam(defaultValue = "xlsx") String format, HttpServletResponse response) throws IOException {
+        switch (format.toLowerCase()) {
+            case "xlsx" -> {
+                response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=membros.xlsx");
+                memberExportService.exportXlsx(response.getOutputStream());
+            }
+            case "csv" -> {
+                response.setContentType("text/csv; charset=UTF-8");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=membros.csv");
+                memberExportService.exportCsv(response.getOutputStream());
+            }
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato inválido: use xlsx ou csv");
+        }
+    }
 }
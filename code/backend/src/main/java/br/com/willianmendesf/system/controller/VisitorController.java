@@ -1,9 +1,16 @@
 package br.com.willianmendesf.system.controller;
 
-import br.com.willianmendesf.system.model.dto.ImportResultDTO;
+import br.com.willianmendesf.system.cache.PersonSearchCache;
+import br.com.willianmendesf.system.model.dto.ImportJobDTO;
+import br.com.willianmendesf.system.model.dto.PersonSuggestionDTO;
 import br.com.willianmendesf.system.model.dto.UpdateVisitorDTO;
 import br.com.willianmendesf.system.model.dto.VisitorDTO;
+import br.com.willianmendesf.system.model.dto.VisitorMergeRequestDTO;
+import br.com.willianmendesf.system.model.dto.VisitorMergeResultDTO;
 import br.com.willianmendesf.system.model.dto.VisitorStatsDTO;
+import br.com.willianmendesf.system.service.ImportJobService;
+import br.com.willianmendesf.system.service.ImportJobService.ImportType;
+import br.com.willianmendesf.system.service.VisitorDuplicateService;
 import br.com.willianmendesf.system.service.VisitorImportService;
 import br.com.willianmendesf.system.service.VisitorService;
 import lombok.AllArgsConstructor;
@@ -29,6 +36,9 @@ public class VisitorController {
 
     private final VisitorService visitorService;
     private final VisitorImportService visitorImportService;
+    private final ImportJobService importJobService;
+    private final PersonSearchCache personSearchCache;
+    private final VisitorDuplicateService visitorDuplicateService;
 
     @GetMapping
     @PreAuthorize("hasAuthority('READ_VISITORS')")
@@ -54,6 +64,35 @@ public class VisitorController {
         }
     }
 
+    /**
+     * Busca rápida por nome (typeahead), sem diferenciar acentos
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAuthority('READ_VISITORS')")
+    public ResponseEntity<List<PersonSuggestionDTO>> search(@RequestParam String q,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(personSearchCache.searchVisitors(q, limit));
+    }
+
+    /**
+     * Grupos de registros que provavelmente são a mesma pessoa (mesmo nome fonético e telefone), para revisão
+     */
+    @GetMapping("/duplicates")
+    @PreAuthorize("hasAuthority('READ_VISITORS')")
+    public ResponseEntity<List<List<VisitorDTO>>> getDuplicates() {
+        return ResponseEntity.ok(visitorDuplicateService.getDuplicateGroups());
+    }
+
+    /**
+     * Unifica os grupos revisados (ids de GET /duplicates) com o mesmo telefone em todos os registros,
+     * removendo os cadastros repetidos no mesmo dia
+     */
+    @PostMapping("/duplicates/merge")
+    @PreAuthorize("hasAuthority('WRITE_VISITORS')")
+    public ResponseEntity<VisitorMergeResultDTO> mergeDuplicates(@RequestBody VisitorMergeRequestDTO request) {
+        return ResponseEntity.ok(visitorDuplicateService.mergeDuplicates(request.getGroups()));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('READ_VISITORS')")
     public ResponseEntity<VisitorDTO> getVisitorById(@PathVariable Long id) {
@@ -164,19 +203,25 @@ public class VisitorController {
         }
     }
 
+    /**
+     * Importação em segundo plano - retorna o jobId imediatamente
+     * POST /visitors/import
+     */
     @PostMapping("/import")
     @PreAuthorize("hasAuthority('WRITE_VISITORS')")
-    public ResponseEntity<ImportResultDTO> importVisitors(@RequestParam("file") MultipartFile file) {
-        try {
-            log.info("Importing visitors from file: {}", file.getOriginalFilename());
-            ImportResultDTO result = visitorImportService.importVisitors(file);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error importing visitors", e);
-            ImportResultDTO errorResult = new ImportResultDTO();
-            errorResult.addError(0, "Erro ao importar visitantes: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResult);
-        }
+    public ResponseEntity<ImportJobDTO> importVisitors(@RequestParam("file") MultipartFile file) {
+        log.info("Importing visitors from file: {}", file.getOriginalFilename());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobService.submit(ImportType.VISITORS, file));
+    }
+
+    /**
+     * Progresso e resultado de uma importação
+     * GET /visitors/import/{jobId}
+     */
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasAuthority('WRITE_VISITORS')")
+    public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(importJobService.getJob(ImportType.VISITORS, jobId));
     }
 }
 
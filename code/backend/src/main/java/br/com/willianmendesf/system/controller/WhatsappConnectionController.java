@@ -2,8 +2,10 @@ package br.com.willianmendesf.system.controller;
 
 import br.com.willianmendesf.system.service.WhatsappConnectionService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -29,6 +31,15 @@ public class WhatsappConnectionController {
         return ResponseEntity.ok(status);
     }
 
+    /**
+     * Stream (Server-Sent Events) com o status atual e cada mudança de estado da conexão
+     * GET /whatsapp/connection/status/stream
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus() {
+        return connectionService.subscribe();
+    }
+
     /**
      * Reconecta manualmente à API WhatsApp
      * POST /whatsapp/connection/reconnect
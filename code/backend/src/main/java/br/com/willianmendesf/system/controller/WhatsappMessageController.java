@@ -1,8 +1,12 @@
 package br.com.willianmendesf.system.controller;
 
 import br.com.willianmendesf.system.model.WhatsappSender;
+import br.com.willianmendesf.system.model.dto.WhatsappBulkJobDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappBulkRequestDTO;
+import br.com.willianmendesf.system.service.WhatsappBulkService;
 import br.com.willianmendesf.system.service.WhatsappMessageService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 public class WhatsappMessageController {
 
     private final WhatsappMessageService service;
+    private final WhatsappBulkService bulkService;
 
     @GetMapping("/contacts")
     public ResponseEntity<Object> getContacts() {
@@ -33,4 +38,22 @@ public class WhatsappMessageController {
         service.sendMessage(message);
         return ResponseEntity.ok(200);
     }
+
+    /**
+     * Envio em massa assíncrono - retorna o jobId imediatamente
+     * POST /whatsapp/bulk
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<WhatsappBulkJobDTO> sendBulk(@RequestBody WhatsappBulkRequestDTO request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkService.submit(request));
+    }
+
+    /**
+     * Progresso e resultado por destinatário de um envio em massa
+     * GET /whatsapp/bulk/{jobId}
+     */
+    @GetMapping("/bulk/{jobId}")
+    public ResponseEntity<WhatsappBulkJobDTO> getBulkJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(bulkService.getJob(jobId));
+    }
 }
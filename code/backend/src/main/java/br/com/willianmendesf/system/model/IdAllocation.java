@@ -0,0 +1,13 @@
+package br.com.willianmendesf.system.model;
+
+/**
+ * Tamanho do bloco de ids reservado pelos geradores pooled das entidades de maior volume
+ * (ver configuration.IdSequenceInitializer, que alinha as tabelas *_seq a esse valor)
+ */
+public final class IdAllocation {
+
+    public static final int SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
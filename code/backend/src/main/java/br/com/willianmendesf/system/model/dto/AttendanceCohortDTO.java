@@ -0,0 +1,20 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de uma análise de presença: eventos considerados e membros selecionados (ordenados por nome)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceCohortDTO {
+    private List<Long> eventIds = new ArrayList<>();
+    private int count;
+    private List<PersonSuggestionDTO> members = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package br.com.willianmendesf.system.model.dto;
+
+import br.com.willianmendesf.system.model.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Situação de uma importação em segundo plano, consultada por polling em GET /members/import/{jobId}
+ * ou /visitors/import/{jobId}. O result traz as contagens atualizadas a cada lote gravado
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDTO {
+    private String jobId;
+    private JobStatus status;
+    private String fileName;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private ImportResultDTO result;
+}
@@ -16,10 +16,20 @@ public class ImportResultDTO {
     private int errorCount;
     private int updatedCount;
     private int createdCount;
+    // Linhas iguais ao cadastro existente, ignoradas sem gravar
+    private int unchangedCount;
     private List<String> errors = new ArrayList<>();
     
     public void addError(int rowNumber, String message) {
         errors.add(String.format("Linha %d: %s", rowNumber, message));
     }
+
+    /**
+     * Cópia independente, para publicar o progresso de uma importação em andamento
+     */
+    public ImportResultDTO copy() {
+        return new ImportResultDTO(totalRows, successCount, errorCount, updatedCount, createdCount, unchangedCount,
+                new ArrayList<>(errors));
+    }
 }
 
@@ -0,0 +1,24 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Próximo aniversário de um membro: data em que cai, idade que completa e quantos dias faltam (0 = hoje)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBirthdayDTO {
+    private Long id;
+    private String nome;
+    private String celular;
+    private String fotoUrl;
+    private LocalDate nascimento;
+    private LocalDate aniversario;
+    private Integer idade;
+    private Integer diasRestantes;
+}
@@ -0,0 +1,18 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Um membro da edição em massa (PATCH /members/bulk): version é a versão que o cliente leu;
+ * se o membro foi alterado depois disso a linha é recusada como CONFLICT
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBulkPatchItemDTO {
+    private Long id;
+    private Long version;
+    private MemberPatchDTO changes;
+}
@@ -0,0 +1,21 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado da edição em massa de membros, com a situação de cada linha na ordem da requisição
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBulkPatchResultDTO {
+    private int updatedCount;
+    private int conflictCount;
+    private int errorCount;
+    private List<MemberBulkPatchRowDTO> results = new ArrayList<>();
+}
@@ -0,0 +1,17 @@
+package br.com.willianmendesf.system.model.dto;
+
+import br.com.willianmendesf.system.model.enums.BulkPatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBulkPatchRowDTO {
+    private Long id;
+    private BulkPatchStatus status;
+    // Versão atual do membro (nova versão quando UPDATED)
+    private Long version;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Página do feed de alterações de membros: criados/alterados e ids excluídos desde o cursor.
+ * O cliente guarda o cursor retornado e repete a chamada enquanto hasMore for true
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberChangesDTO {
+    private List<MemberDTO> changed = new ArrayList<>();
+    private List<Long> deleted = new ArrayList<>();
+    private String cursor;
+    private boolean hasMore;
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -51,7 +52,11 @@ public class MemberDTO {
         this.nome = member.getNome();
         this.email = member.getEmail();
         this.nascimento = member.getNascimento();
-        this.idade = member.getIdade();
+        // Idade calculada na data atual; a coluna idade só vale para cadastros sem data de nascimento
+        // (Integer explícito: com int no ternário, idade null sem nascimento causaria NullPointerException)
+        this.idade = member.getNascimento() != null
+                ? Integer.valueOf(Period.between(member.getNascimento(), LocalDate.now()).getYears())
+                : member.getIdade();
         this.telefone = member.getTelefone();
         this.comercial = member.getComercial();
         this.celular = member.getCelular();
@@ -0,0 +1,22 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Família de um membro: cônjuge (pelo conjugueTelefone), pais (telefonePai/telefoneMae)
+ * e filhos que informaram o telefone ou celular do membro
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberFamilyDTO {
+    private MemberSpouseDTO spouse;
+    private MemberSpouseDTO father;
+    private MemberSpouseDTO mother;
+    private List<MemberChildrenDTO> children = new ArrayList<>();
+}
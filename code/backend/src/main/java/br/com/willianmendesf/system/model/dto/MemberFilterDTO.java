@@ -0,0 +1,20 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filtros da listagem paginada de membros; campos nulos ou vazios são ignorados
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberFilterDTO {
+    private String nome; // prefixo do nome
+    private Long groupId;
+    private String tipoCadastro;
+    private Boolean child;
+    private Boolean intercessor;
+    private String cidade;
+}
@@ -0,0 +1,28 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Alterações parciais de um membro na edição em massa: campos null são mantidos.
+ * groupIds substitui os grupos; addGroupIds/removeGroupIds alteram só os informados
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberPatchDTO {
+    private String tipoCadastro;
+    private Boolean intercessor;
+    private Boolean comungante;
+    private Boolean child;
+    private Boolean hasChildren;
+    private Boolean estadoCivil;
+    private String cidade;
+    private String estado;
+    private List<Long> groupIds;
+    private List<Long> addGroupIds;
+    private List<Long> removeGroupIds;
+}
@@ -0,0 +1,17 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Destinatário resolvido a partir de um grupo de membros, com telefone já no formato WhatsApp
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberRecipientDTO {
+    private String phone;
+    private String nome;
+    private String grupo;
+}
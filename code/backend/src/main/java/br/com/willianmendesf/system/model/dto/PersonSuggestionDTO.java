@@ -0,0 +1,16 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sugestão de pessoa (membro ou visitante) retornada pela busca por nome (typeahead)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonSuggestionDTO {
+    private Long id;
+    private String nome;
+}
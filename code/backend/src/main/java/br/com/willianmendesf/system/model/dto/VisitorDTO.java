@@ -13,6 +13,7 @@ import lombok.AccessLevel;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
@@ -0,0 +1,17 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Grupos de visitantes revisados para unificação (ids vindos de GET /visitors/duplicates)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitorMergeRequestDTO {
+    private List<List<Long>> groups;
+}
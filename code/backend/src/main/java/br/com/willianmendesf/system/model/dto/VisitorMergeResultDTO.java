@@ -0,0 +1,22 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado da unificação de visitantes duplicados: grupos unificados, registros removidos
+ * (mesma pessoa cadastrada duas vezes no mesmo dia) e grupos recusados com o motivo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitorMergeResultDTO {
+    private int groupCount;
+    private int removedCount;
+    private int errorCount;
+    private List<String> errors = new ArrayList<>();
+}
@@ -8,6 +8,10 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
+/**
+ * Visitas de um dia: total, primeiras visitas (telefone sem visita anterior ou não informado),
+ * origem (SP ou outros estados) e quantos vieram como acompanhantes de outro visitante
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,5 +20,9 @@ public class VisitorStatsDTO {
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate data;
     private Long quantidade;
+    private Long primeiraVez;
+    private Long deSP;
+    private Long outrosEstados;
+    private Long acompanhantes;
 }
 
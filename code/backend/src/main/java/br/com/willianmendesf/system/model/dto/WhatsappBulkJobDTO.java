@@ -0,0 +1,28 @@
+package br.com.willianmendesf.system.model.dto;
+
+import br.com.willianmendesf.system.model.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Situação de um envio em massa, consultada por polling em GET /whatsapp/bulk/{jobId}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatsappBulkJobDTO {
+    private String jobId;
+    private JobStatus status;
+    private int total;
+    private int processed;
+    private int successCount;
+    private int errorCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private List<WhatsappBulkRecipientResultDTO> results = new ArrayList<>();
+}
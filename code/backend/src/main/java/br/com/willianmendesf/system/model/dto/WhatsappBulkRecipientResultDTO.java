@@ -0,0 +1,15 @@
+package br.com.willianmendesf.system.model.dto;
+
+import br.com.willianmendesf.system.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatsappBulkRecipientResultDTO {
+    private String recipient;
+    private TaskStatus status;
+    private String error;
+}
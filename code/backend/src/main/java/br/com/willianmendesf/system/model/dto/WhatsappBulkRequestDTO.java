@@ -0,0 +1,20 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Requisição de envio em massa: mensagem, imagem opcional e lista de destinatários (telefones ou JIDs)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatsappBulkRequestDTO {
+    private String message;
+    private String media;
+    private List<String> recipients = new ArrayList<>();
+}
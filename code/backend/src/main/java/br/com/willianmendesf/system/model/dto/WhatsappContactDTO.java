@@ -0,0 +1,16 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contato retornado pela API do WhatsApp (/user/my/contacts)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatsappContactDTO {
+    private String id;
+    private String name;
+}
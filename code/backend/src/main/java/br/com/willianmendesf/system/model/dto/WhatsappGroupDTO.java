@@ -0,0 +1,16 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Grupo retornado pela API do WhatsApp (/user/my/groups)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatsappGroupDTO {
+    private String id;
+    private String name;
+}
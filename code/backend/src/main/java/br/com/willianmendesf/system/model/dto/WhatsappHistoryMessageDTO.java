@@ -0,0 +1,17 @@
+package br.com.willianmendesf.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Mensagem do histórico de uma conversa (/chat/{jid}/messages)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhatsappHistoryMessageDTO {
+    private String id;
+    private String timestamp;
+    private String message;
+}
@@ -41,6 +41,11 @@ public class AppointmentEntity {
     private String message;
     private List<String> sendTo;
     private List<String> sendToGroups;
+
+    // IDs dos grupos de membros (volunteer_groups) usados quando recipientType = MEMBER_GROUP
+    @Column(name = "send_to_member_groups")
+    private List<Long> sendToMemberGroups;
+
     private Boolean sendImage;
     private String imageToSend;
 
@@ -86,6 +91,7 @@ public class AppointmentEntity {
         this.lastStatus = entity.getLastStatus() != null ? entity.getLastStatus() : this.lastStatus;
         this.sendTo = entity.getSendTo() != null ? entity.getSendTo() : this.sendTo;
         this.sendToGroups = entity.getSendToGroups() != null ? entity.getSendToGroups() : this.sendToGroups;
+        this.sendToMemberGroups = entity.getSendToMemberGroups() != null ? entity.getSendToMemberGroups() : this.sendToMemberGroups;
         this.recipientType = entity.getRecipientType() != null ? entity.getRecipientType() : this.recipientType;
         this.imageToSend = entity.getImageToSend() != null ? entity.getImageToSend() : this.imageToSend;
         this.version = entity.getVersion() != null ? entity.getVersion() : this.version;
@@ -120,6 +126,7 @@ public class AppointmentEntity {
         this.lastStatus = entity.getLastStatus();
         this.sendTo = entity.getSendTo();
         this.sendToGroups = entity.getSendToGroups();
+        this.sendToMemberGroups = entity.getSendToMemberGroups();
         this.recipientType = entity.getRecipientType();
         this.sendImage = entity.getSendImage();
         this.imageToSend = entity.getImageToSend();
@@ -149,6 +156,7 @@ public class AppointmentEntity {
         this.lastStatus = entity.getLastStatus();
         this.sendTo = entity.getSendTo();
         this.sendToGroups = entity.getSendToGroups();
+        this.sendToMemberGroups = entity.getSendToMemberGroups();
         this.recipientType = entity.getRecipientType();
         this.sendImage = entity.getSendImage();
         this.imageToSend = entity.getImageToSend();
@@ -230,6 +238,7 @@ public class AppointmentEntity {
                 ", lastStatus=" + lastStatus +
                 ", sendTo=" + sendTo +
                 ", sendToGroups=" + sendToGroups +
+                ", sendToMemberGroups=" + sendToMemberGroups +
                 ", recipientType=" + recipientType +
                 ", sendImage=" + sendImage +
                 ", imageToSend='" + imageToSend + '\'' +
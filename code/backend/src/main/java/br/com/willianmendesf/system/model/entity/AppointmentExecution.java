@@ -1,5 +1,6 @@
 package br.com.willianmendesf.system.model.entity;
 
+import br.com.willianmendesf.system.model.IdAllocation;
 import br.com.willianmendesf.system.model.enums.TaskStatus;
 import jakarta.persistence.*;
 import lombok.Data;
@@ -11,7 +12,8 @@ import java.time.LocalDateTime;
 @Table(name = "appointment_executions")
 public class AppointmentExecution {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_executions_seq")
+    @SequenceGenerator(name = "appointment_executions_seq", sequenceName = "appointment_executions_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(nullable = false, name = "appointment_id")
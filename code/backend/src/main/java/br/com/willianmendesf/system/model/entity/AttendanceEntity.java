@@ -1,5 +1,7 @@
 package br.com.willianmendesf.system.model.entity;
 
+import br.com.willianmendesf.system.model.IdAllocation;
+import br.com.willianmendesf.system.model.listener.AttendanceEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -11,12 +13,14 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(AttendanceEntityListener.class)
 @Table(name = "attendance", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "event_id"}))
 public class AttendanceEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_seq")
+    @SequenceGenerator(name = "attendance_seq", sequenceName = "attendance_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
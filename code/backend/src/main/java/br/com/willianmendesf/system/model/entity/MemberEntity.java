@@ -1,23 +1,38 @@
 package br.com.willianmendesf.system.model.entity;
 
+import br.com.willianmendesf.system.model.IdAllocation;
+import br.com.willianmendesf.system.model.listener.MemberEntityListener;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Data
 @AllArgsConstructor
 @Entity
-@Table(name = "register")
+@EntityListeners(MemberEntityListener.class)
+@Table(name = "register", indexes = {
+        @Index(name = "idx_register_nome", columnList = "nome"),
+        @Index(name = "idx_register_telefone_normalizado", columnList = "telefone_normalizado"),
+        @Index(name = "idx_register_celular_normalizado", columnList = "celular_normalizado"),
+        @Index(name = "idx_register_comercial_normalizado", columnList = "comercial_normalizado"),
+        @Index(name = "idx_register_telefone_pai_normalizado", columnList = "telefone_pai_normalizado"),
+        @Index(name = "idx_register_telefone_mae_normalizado", columnList = "telefone_mae_normalizado"),
+        @Index(name = "idx_register_updated_at", columnList = "updated_at, id")
+})
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class MemberEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "register_seq")
+    @SequenceGenerator(name = "register_seq", sequenceName = "register_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(name = "nome", nullable = false)
@@ -86,6 +101,27 @@ public class MemberEntity {
     @Column(name = "email")
     private String email;
 
+    // Telefones apenas com dígitos, preenchidos por normalizePhones() para buscas por igualdade nos índices
+    @JsonIgnore
+    @Column(name = "telefone_normalizado", length = PhoneUtil.NORMALIZED_MAX_LENGTH)
+    private String telefoneNormalizado;
+
+    @JsonIgnore
+    @Column(name = "celular_normalizado", length = PhoneUtil.NORMALIZED_MAX_LENGTH)
+    private String celularNormalizado;
+
+    @JsonIgnore
+    @Column(name = "comercial_normalizado", length = PhoneUtil.NORMALIZED_MAX_LENGTH)
+    private String comercialNormalizado;
+
+    @JsonIgnore
+    @Column(name = "telefone_pai_normalizado", length = PhoneUtil.NORMALIZED_MAX_LENGTH)
+    private String telefonePaiNormalizado;
+
+    @JsonIgnore
+    @Column(name = "telefone_mae_normalizado", length = PhoneUtil.NORMALIZED_MAX_LENGTH)
+    private String telefoneMaeNormalizado;
+
     @Column(columnDefinition = "TEXT")
     private String grupos;
 
@@ -105,6 +141,10 @@ public class MemberEntity {
     @Column(name = "version")
     private Long version;
 
+    // Momento da última gravação (preenchido em beforeSave()); cursor do feed GET /members/changes
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "member_groups",
@@ -145,6 +185,7 @@ public class MemberEntity {
         this.fotoUrl = member.getFotoUrl();
         this.hasChildren = member.getHasChildren();
         this.version = member.getVersion();
+        this.updatedAt = member.getUpdatedAt();
     }
 
     public MemberEntity(MemberEntity actual, MemberEntity newValue) {
@@ -177,6 +218,25 @@ public class MemberEntity {
         this.fotoUrl = (isNotEmpty(actual.getFotoUrl())) ? actual.getFotoUrl() : newValue.getFotoUrl();
         this.hasChildren = (actual.getHasChildren() != null) ? actual.getHasChildren() : newValue.getHasChildren();
         this.version = (actual.getVersion() != null) ? actual.getVersion() : newValue.getVersion();
+        this.updatedAt = (actual.getUpdatedAt() != null) ? actual.getUpdatedAt() : newValue.getUpdatedAt();
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void beforeSave() {
+        normalizePhones();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Mantém as colunas *_normalizado em sincronia com os telefones informados
+     */
+    public void normalizePhones() {
+        this.telefoneNormalizado = PhoneUtil.normalize(telefone);
+        this.celularNormalizado = PhoneUtil.normalize(celular);
+        this.comercialNormalizado = PhoneUtil.normalize(comercial);
+        this.telefonePaiNormalizado = PhoneUtil.normalize(telefonePai);
+        this.telefoneMaeNormalizado = PhoneUtil.normalize(telefoneMae);
     }
 
     private boolean isNotEmpty(String str) {
@@ -0,0 +1,29 @@
+package br.com.willianmendesf.system.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de membro excluído, para que o feed GET /members/changes informe a exclusão
+ * a clientes que sincronizam de forma incremental
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "member_tombstones", indexes = {
+        @Index(name = "idx_member_tombstones_deleted_at", columnList = "deleted_at, member_id")
+})
+public class MemberTombstoneEntity {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
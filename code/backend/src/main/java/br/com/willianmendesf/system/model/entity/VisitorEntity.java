@@ -1,5 +1,7 @@
 package br.com.willianmendesf.system.model.entity;
 
+import br.com.willianmendesf.system.model.IdAllocation;
+import br.com.willianmendesf.system.model.listener.VisitorEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -14,12 +16,14 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(VisitorEntityListener.class)
 @Table(name = "visitors")
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class VisitorEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "visitors_seq")
+    @SequenceGenerator(name = "visitors_seq", sequenceName = "visitors_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(name = "nome_completo", nullable = false)
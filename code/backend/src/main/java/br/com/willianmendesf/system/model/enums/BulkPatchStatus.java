@@ -0,0 +1,5 @@
+package br.com.willianmendesf.system.model.enums;
+
+public enum BulkPatchStatus {
+    UPDATED, CONFLICT, NOT_FOUND, INVALID
+}
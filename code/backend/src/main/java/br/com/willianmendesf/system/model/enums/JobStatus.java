@@ -0,0 +1,5 @@
+package br.com.willianmendesf.system.model.enums;
+
+public enum JobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -1,5 +1,8 @@
 package br.com.willianmendesf.system.model.enums;
 
 public enum RecipientType {
-    INDIVIDUAL, GROUP
+    // Gravado como ordinal: novos valores só no final (ver RecipientTypeConstraintInitializer)
+    INDIVIDUAL, GROUP, MEMBER_GROUP,
+    // Membros que fazem aniversário no dia da execução (BirthdayIndexCache), sem lista de destinatários
+    BIRTHDAY
 }
@@ -0,0 +1,21 @@
+package br.com.willianmendesf.system.model.event;
+
+import br.com.willianmendesf.system.model.enums.EventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Publicado pelo AttendanceEntityListener quando uma presença é registrada ou removida.
+ * Data e tipo do evento só são preenchidos no registro (na remoção o evento já é conhecido)
+ */
+@Getter
+@AllArgsConstructor
+public class AttendanceChangedEvent {
+    private final Long memberId;
+    private final Long eventId;
+    private final LocalDate eventDate;
+    private final EventType eventType;
+    private final boolean deleted;
+}
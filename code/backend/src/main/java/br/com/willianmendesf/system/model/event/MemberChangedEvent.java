@@ -0,0 +1,15 @@
+package br.com.willianmendesf.system.model.event;
+
+import br.com.willianmendesf.system.model.entity.MemberEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Publicado pelo MemberEntityListener quando um membro é criado, alterado ou removido
+ */
+@Getter
+@AllArgsConstructor
+public class MemberChangedEvent {
+    private final MemberEntity member;
+    private final boolean deleted;
+}
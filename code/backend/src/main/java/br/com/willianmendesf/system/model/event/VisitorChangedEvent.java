@@ -0,0 +1,15 @@
+package br.com.willianmendesf.system.model.event;
+
+import br.com.willianmendesf.system.model.entity.VisitorEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Publicado pelo VisitorEntityListener quando um visitante é criado, alterado ou removido
+ */
+@Getter
+@AllArgsConstructor
+public class VisitorChangedEvent {
+    private final VisitorEntity visitor;
+    private final boolean deleted;
+}
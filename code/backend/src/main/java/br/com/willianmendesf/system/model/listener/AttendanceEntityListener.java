@@ -0,0 +1,31 @@
+package br.com.willianmendesf.system.model.listener;
+
+import br.com.willianmendesf.system.model.entity.AttendanceEntity;
+import br.com.willianmendesf.system.model.event.AttendanceChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converte as gravações de AttendanceEntity em AttendanceChangedEvent, consumidos pelo índice de presenças
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    public void onSave(AttendanceEntity attendance) {
+        publisher.publishEvent(new AttendanceChangedEvent(attendance.getMember().getId(), attendance.getEvent().getId(),
+                attendance.getEvent().getDate(), attendance.getEvent().getType(), false));
+    }
+
+    @PostRemove
+    public void onRemove(AttendanceEntity attendance) {
+        publisher.publishEvent(new AttendanceChangedEvent(attendance.getMember().getId(), attendance.getEvent().getId(),
+                null, null, true));
+    }
+}
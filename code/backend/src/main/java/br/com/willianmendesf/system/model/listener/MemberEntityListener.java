@@ -0,0 +1,32 @@
+package br.com.willianmendesf.system.model.listener;
+
+import br.com.willianmendesf.system.model.entity.MemberEntity;
+import br.com.willianmendesf.system.model.event.MemberChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converte as gravações de MemberEntity (qualquer caminho: serviços, controller, importação)
+ * em MemberChangedEvent, consumidos pelos índices em memória
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(MemberEntity member) {
+        publisher.publishEvent(new MemberChangedEvent(member, false));
+    }
+
+    @PostRemove
+    public void onRemove(MemberEntity member) {
+        publisher.publishEvent(new MemberChangedEvent(member, true));
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.willianmendesf.system.model.listener;
+
+import br.com.willianmendesf.system.model.entity.VisitorEntity;
+import br.com.willianmendesf.system.model.event.VisitorChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converte as gravações de VisitorEntity em VisitorChangedEvent, consumidos pelos índices em memória
+ */
+@Component
+@RequiredArgsConstructor
+public class VisitorEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(VisitorEntity visitor) {
+        publisher.publishEvent(new VisitorChangedEvent(visitor, false));
+    }
+
+    @PostRemove
+    public void onRemove(VisitorEntity visitor) {
+        publisher.publishEvent(new VisitorChangedEvent(visitor, true));
+    }
+}
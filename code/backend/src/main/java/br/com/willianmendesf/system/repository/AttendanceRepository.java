@@ -31,6 +31,20 @@ public interface AttendanceRepository extends JpaRepository<AttendanceEntity, Lo
     Long countDistinctEventsByDateRange(@Param("startDate") java.time.LocalDate startDate, 
                                         @Param("endDate") java.time.LocalDate endDate);
     
+    /**
+     * Linhas [eventId, data do evento, tipo do evento, memberId] de todas as presenças, para o índice em bits
+     */
+    @Query("SELECT e.id, e.date, e.type, a.member.id FROM AttendanceEntity a JOIN a.event e")
+    List<Object[]> findAllForBitmaps();
+
+    /**
+     * Pares [memberId, presenças] dos membros com ao menos uma presença em eventos do período
+     * (member_id + event_id é único, então COUNT conta eventos distintos)
+     */
+    @Query("SELECT a.member.id, COUNT(a) FROM AttendanceEntity a WHERE a.event.date BETWEEN :startDate AND :endDate GROUP BY a.member.id")
+    List<Object[]> countPresenceByMemberInRange(@Param("startDate") java.time.LocalDate startDate,
+                                                @Param("endDate") java.time.LocalDate endDate);
+
     @Query("SELECT COUNT(a) FROM AttendanceEntity a WHERE a.event.date BETWEEN :startDate AND :endDate")
     Long countByDateRange(@Param("startDate") java.time.LocalDate startDate, 
                           @Param("endDate") java.time.LocalDate endDate);
@@ -16,5 +16,7 @@ public interface EventRepository extends JpaRepository<EventEntity, Long> {
     
     @Query("SELECT e FROM EventEntity e WHERE e.date BETWEEN :startDate AND :endDate ORDER BY e.date ASC, e.startTime ASC")
     List<EventEntity> findByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    long countByDateBetween(LocalDate startDate, LocalDate endDate);
 }
 
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,12 @@ import java.util.Optional;
 public interface GroupEnrollmentRepository extends JpaRepository<GroupEnrollment, Long> {
     
     List<GroupEnrollment> findByMemberId(Long memberId);
+
+    /**
+     * Inscrições de vários membros em uma única consulta, já com membro e grupo carregados
+     */
+    @Query("SELECT ge FROM GroupEnrollment ge JOIN FETCH ge.member JOIN FETCH ge.group WHERE ge.member.id IN :memberIds")
+    List<GroupEnrollment> findByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
     
     List<GroupEnrollment> findByGroupId(Long groupId);
     
@@ -1,19 +1,72 @@
 package br.com.willianmendesf.system.repository;
 
 import br.com.willianmendesf.system.model.entity.MemberEntity;
+import br.com.willianmendesf.system.repository.projection.MemberExportProjection;
+import br.com.willianmendesf.system.repository.projection.MemberPhonesProjection;
+import br.com.willianmendesf.system.repository.projection.MemberRecipientProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
+public interface MemberRepository extends JpaRepository<MemberEntity, Long>, JpaSpecificationExecutor<MemberEntity> {
     @Query("SELECT COALESCE(MAX(u.id), 0) FROM MemberEntity u")
     Long findMaxId();
     
     MemberEntity findByEmail(String email);
+
+    /**
+     * Pares [id, nome] de todos os membros, para montar o índice de busca por nome
+     */
+    @Query("SELECT m.id, m.nome FROM MemberEntity m")
+    List<Object[]> findAllIdAndNome();
+
+    /**
+     * Pares [email, id] dos membros com email, para a importação localizar cadastros existentes sem consultar linha a linha
+     */
+    @Query("SELECT m.email, m.id FROM MemberEntity m WHERE m.email IS NOT NULL AND m.email <> '' ORDER BY m.id")
+    List<Object[]> findAllEmailAndId();
+
+    /**
+     * Linhas [id, nome, nascimento, celular, fotoUrl] dos membros com data de nascimento, para o índice de aniversários
+     */
+    @Query("SELECT m.id, m.nome, m.nascimento, m.celular, m.fotoUrl FROM MemberEntity m WHERE m.nascimento IS NOT NULL")
+    List<Object[]> findAllForBirthdayIndex();
+
+    /**
+     * Linhas [id, nome, fotoUrl, celular, child, telefone, comercial, telefonePai, telefoneMae, conjugueTelefone]
+     * de todos os membros, para o grafo familiar
+     */
+    @Query("SELECT m.id, m.nome, m.fotoUrl, m.celular, m.child, m.telefone, m.comercial, " +
+           "m.telefonePai, m.telefoneMae, m.conjugueTelefone FROM MemberEntity m")
+    List<Object[]> findAllForFamilyGraph();
+
+    /**
+     * Pares [id, updatedAt] gravados após o cursor (updatedAt, id) até o limite until, em ordem de cursor
+     */
+    @Query("SELECT m.id, m.updatedAt FROM MemberEntity m " +
+           "WHERE (m.updatedAt > :since OR (m.updatedAt = :since AND m.id > :afterId)) AND m.updatedAt <= :until " +
+           "ORDER BY m.updatedAt, m.id")
+    List<Object[]> findChangedAfter(@Param("since") LocalDateTime since,
+                                    @Param("afterId") Long afterId,
+                                    @Param("until") LocalDateTime until,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.updatedAt = :now WHERE m.updatedAt IS NULL")
+    int fillMissingUpdatedAt(@Param("now") LocalDateTime now);
     boolean existsByEmail(String email);
     
     @Query("SELECT DISTINCT m FROM MemberEntity m LEFT JOIN FETCH m.groups WHERE :groupId IN (SELECT g.id FROM m.groups g)")
@@ -22,54 +75,86 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
     @Query("SELECT DISTINCT m FROM MemberEntity m LEFT JOIN FETCH m.groups")
     List<MemberEntity> findAllWithGroups();
     
+    /**
+     * Carrega os grupos dos membros informados (usado após buscar uma página de membros)
+     */
+    @Query("SELECT DISTINCT m FROM MemberEntity m LEFT JOIN FETCH m.groups WHERE m.id IN :ids")
+    List<MemberEntity> findAllWithGroupsByIdIn(@Param("ids") Collection<Long> ids);
+    
     @Query("SELECT DISTINCT m FROM MemberEntity m LEFT JOIN FETCH m.groups WHERE m.id = :id")
     java.util.Optional<MemberEntity> findByIdWithGroups(@Param("id") Long id);
     
+    /**
+     * Próximo lote de membros com celular pertencentes a algum dos grupos informados (paginação por id).
+     * Retorna apenas id, nome, celular e o nome de um dos grupos, sem carregar entidades
+     */
+    @Query("SELECT m.id AS id, m.nome AS nome, m.celular AS celular, MIN(g.nome) AS grupo " +
+           "FROM MemberEntity m JOIN m.groups g " +
+           "WHERE g.id IN :groupIds AND m.id > :afterId AND m.celular IS NOT NULL AND m.celular <> '' " +
+           "GROUP BY m.id, m.nome, m.celular ORDER BY m.id")
+    List<MemberRecipientProjection> findRecipientsByGroupIds(@Param("groupIds") Collection<Long> groupIds,
+                                                             @Param("afterId") Long afterId,
+                                                             Pageable pageable);
+
+    /**
+     * Todos os membros para exportação, lidos por cursor (fetch size Integer.MIN_VALUE faz o driver
+     * MySQL entregar linha a linha). Deve ser consumido dentro de uma transação e fechado ao final
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m.nome AS nome, m.tipoCadastro AS tipoCadastro, m.nascimento AS nascimento, " +
+           "m.estadoCivil AS estadoCivil, m.cep AS cep, m.logradouro AS logradouro, m.numero AS numero, " +
+           "m.complemento AS complemento, m.bairro AS bairro, m.cidade AS cidade, m.estado AS estado, " +
+           "m.telefone AS telefone, m.comercial AS comercial, m.celular AS celular, m.email AS email, " +
+           "m.grupos AS grupos FROM MemberEntity m ORDER BY m.id")
+    Stream<MemberExportProjection> streamAllForExport();
+
     /**
      * Verifica se existe membro com o telefone ou celular informado (telefone sanitizado)
      */
     @Query("SELECT COUNT(m) > 0 FROM MemberEntity m " +
-           "WHERE REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.telefone, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone " +
-           "OR REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.celular, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone")
+           "WHERE m.telefoneNormalizado = :phone OR m.celularNormalizado = :phone")
     boolean existsByTelefoneOrCelular(@Param("phone") String phone);
     
     /**
      * Busca membro por telefone ou celular (telefone sanitizado)
      */
     @Query("SELECT DISTINCT m FROM MemberEntity m LEFT JOIN FETCH m.groups " +
-           "WHERE REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.telefone, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone " +
-           "OR REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.celular, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone")
+           "WHERE m.telefoneNormalizado = :phone OR m.celularNormalizado = :phone")
     MemberEntity findByTelefoneOrCelular(@Param("phone") String phone);
     
     /**
-     * Busca membro por telefone do cônjuge (telefone sanitizado)
-     * Usado para relacionamento de cônjuge - busca o membro que tem o telefone informado
-     * como seu próprio telefone ou celular
+     * Membros com algum telefone preenchido (não vazio) e ainda sem a coluna normalizada correspondente
+     * (registros anteriores às colunas *_normalizado). Telefones sem dígitos continuam aparecendo aqui,
+     * já que a normalização deles é sempre null; MemberPhoneMigrationService os ignora
      */
-    @Query("SELECT DISTINCT m FROM MemberEntity m LEFT JOIN FETCH m.groups " +
-           "WHERE REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.telefone, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone " +
-           "OR REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.celular, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone")
-    MemberEntity findByConjugueTelefone(@Param("phone") String phone);
-    
-    /**
-     * Busca membro por telefone do pai/mãe (telefone sanitizado)
-     * Usado para relacionamento de pais - busca o membro que tem o telefone informado
-     * como seu próprio telefone, celular ou comercial
-     */
-    @Query("SELECT DISTINCT m FROM MemberEntity m LEFT JOIN FETCH m.groups " +
-           "WHERE REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.telefone, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone " +
-           "OR REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.celular, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone " +
-           "OR REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.comercial, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone")
-    MemberEntity findByParentTelefone(@Param("phone") String phone);
-    
+    @Query("SELECT m.id AS id, m.telefone AS telefone, m.celular AS celular, m.comercial AS comercial, " +
+           "m.telefonePai AS telefonePai, m.telefoneMae AS telefoneMae, " +
+           "m.telefoneNormalizado AS telefoneNormalizado, m.celularNormalizado AS celularNormalizado, " +
+           "m.comercialNormalizado AS comercialNormalizado, m.telefonePaiNormalizado AS telefonePaiNormalizado, " +
+           "m.telefoneMaeNormalizado AS telefoneMaeNormalizado FROM MemberEntity m " +
+           "WHERE m.id > :afterId AND (" +
+           "(NULLIF(TRIM(m.telefone), '') IS NOT NULL AND m.telefoneNormalizado IS NULL) " +
+           "OR (NULLIF(TRIM(m.celular), '') IS NOT NULL AND m.celularNormalizado IS NULL) " +
+           "OR (NULLIF(TRIM(m.comercial), '') IS NOT NULL AND m.comercialNormalizado IS NULL) " +
+           "OR (NULLIF(TRIM(m.telefonePai), '') IS NOT NULL AND m.telefonePaiNormalizado IS NULL) " +
+           "OR (NULLIF(TRIM(m.telefoneMae), '') IS NOT NULL AND m.telefoneMaeNormalizado IS NULL)) " +
+           "ORDER BY m.id")
+    List<MemberPhonesProjection> findPendingPhoneNormalization(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
-     * Busca filhos por telefone do pai/mãe (telefone sanitizado)
-     * Usado para relacionamento de filhos - busca filhos onde telefonePai ou telefoneMae
-     * corresponde ao telefone informado
+     * Grava as colunas normalizadas sem carregar a entidade nem incrementar a versão
      */
-    @Query("SELECT DISTINCT m FROM MemberEntity m LEFT JOIN FETCH m.groups " +
-           "WHERE m.child = true " +
-           "AND (REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.telefonePai, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone " +
-           "OR REPLACE(REPLACE(REPLACE(REPLACE(COALESCE(m.telefoneMae, ''), '(', ''), ')', ''), '-', ''), ' ', '') = :phone)")
-    List<MemberEntity> findChildrenByTelefone(@Param("phone") String phone);
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.telefoneNormalizado = :telefone, m.celularNormalizado = :celular, " +
+           "m.comercialNormalizado = :comercial, m.telefonePaiNormalizado = :telefonePai, " +
+           "m.telefoneMaeNormalizado = :telefoneMae WHERE m.id = :id")
+    int updateNormalizedPhones(@Param("id") Long id,
+                               @Param("telefone") String telefone,
+                               @Param("celular") String celular,
+                               @Param("comercial") String comercial,
+                               @Param("telefonePai") String telefonePai,
+                               @Param("telefoneMae") String telefoneMae);
 }
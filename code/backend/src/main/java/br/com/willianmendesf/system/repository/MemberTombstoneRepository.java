@@ -0,0 +1,26 @@
+package br.com.willianmendesf.system.repository;
+
+import br.com.willianmendesf.system.model.entity.MemberTombstoneEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MemberTombstoneRepository extends JpaRepository<MemberTombstoneEntity, Long> {
+
+    /**
+     * Exclusões após o cursor (deletedAt, memberId) até o limite until, em ordem de cursor
+     */
+    @Query("SELECT t FROM MemberTombstoneEntity t " +
+           "WHERE (t.deletedAt > :since OR (t.deletedAt = :since AND t.memberId > :afterId)) AND t.deletedAt <= :until " +
+           "ORDER BY t.deletedAt, t.memberId")
+    List<MemberTombstoneEntity> findChangedAfter(@Param("since") LocalDateTime since,
+                                                 @Param("afterId") Long afterId,
+                                                 @Param("until") LocalDateTime until,
+                                                 Pageable pageable);
+}
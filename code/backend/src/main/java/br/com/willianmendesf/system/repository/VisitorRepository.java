@@ -16,7 +16,23 @@ public interface VisitorRepository extends JpaRepository<VisitorEntity, Long> {
     
     List<VisitorEntity> findByDataVisitaBetween(LocalDate start, LocalDate end);
     
-    List<VisitorEntity> findByNomeCompletoContainingIgnoreCase(String nome);
+    /**
+     * Pares [id, nomeCompleto] de todos os visitantes, para montar o índice de busca por nome
+     */
+    @Query("SELECT v.id, v.nomeCompleto FROM VisitorEntity v")
+    List<Object[]> findAllIdAndNomeCompleto();
+
+    /**
+     * Linhas [id, nomeCompleto, telefone] de todos os visitantes, para o índice de possíveis duplicados
+     */
+    @Query("SELECT v.id, v.nomeCompleto, v.telefone FROM VisitorEntity v")
+    List<Object[]> findAllIdNomeAndTelefone();
+
+    /**
+     * Linhas [id, dataVisita, eDeSP, telefone, id do visitante principal, nomeCompleto] para as contagens diárias de visitantes
+     */
+    @Query("SELECT v.id, v.dataVisita, v.eDeSP, v.telefone, m.id, v.nomeCompleto FROM VisitorEntity v LEFT JOIN v.mainVisitor m WHERE v.dataVisita IS NOT NULL")
+    List<Object[]> findAllForStats();
     
     Long countByDataVisita(LocalDate date);
     
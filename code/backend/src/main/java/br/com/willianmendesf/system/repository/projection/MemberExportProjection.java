@@ -0,0 +1,25 @@
+package br.com.willianmendesf.system.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Colunas da exportação de membros, na mesma ordem do modelo de importação
+ */
+public interface MemberExportProjection {
+    String getNome();
+    String getTipoCadastro();
+    LocalDate getNascimento();
+    Boolean getEstadoCivil();
+    String getCep();
+    String getLogradouro();
+    String getNumero();
+    String getComplemento();
+    String getBairro();
+    String getCidade();
+    String getEstado();
+    String getTelefone();
+    String getComercial();
+    String getCelular();
+    String getEmail();
+    String getGrupos();
+}
@@ -0,0 +1,18 @@
+package br.com.willianmendesf.system.repository.projection;
+
+/**
+ * Telefones de um membro no formato original e as colunas normalizadas atuais, usados para preenchê-las
+ */
+public interface MemberPhonesProjection {
+    Long getId();
+    String getTelefone();
+    String getCelular();
+    String getComercial();
+    String getTelefonePai();
+    String getTelefoneMae();
+    String getTelefoneNormalizado();
+    String getCelularNormalizado();
+    String getComercialNormalizado();
+    String getTelefonePaiNormalizado();
+    String getTelefoneMaeNormalizado();
+}
@@ -0,0 +1,11 @@
+package br.com.willianmendesf.system.repository.projection;
+
+/**
+ * Dados mínimos de um membro para envio de mensagens a grupos de membros
+ */
+public interface MemberRecipientProjection {
+    Long getId();
+    String getNome();
+    String getCelular();
+    String getGrupo();
+}
@@ -0,0 +1,64 @@
+package br.com.willianmendesf.system.repository.specification;
+
+import br.com.willianmendesf.system.model.dto.MemberFilterDTO;
+import br.com.willianmendesf.system.model.entity.MemberEntity;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filtros da listagem paginada de membros
+ */
+public class MemberSpecifications {
+
+    private MemberSpecifications() { }
+
+    /**
+     * Monta os filtros sem joins na consulta principal (grupo via subquery),
+     * para que a contagem da página continue sendo um COUNT simples sobre register
+     */
+    public static Specification<MemberEntity> withFilter(MemberFilterDTO filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter == null) return cb.and();
+
+            if (hasText(filter.getNome())) {
+                // Prefixo sem função sobre a coluna, para usar o índice de nome
+                predicates.add(cb.like(root.get("nome"), escapeLike(filter.getNome().trim()) + "%", '\\'));
+            }
+            if (filter.getGroupId() != null) {
+                Subquery<Long> members = query.subquery(Long.class);
+                Root<MemberEntity> member = members.from(MemberEntity.class);
+                Join<Object, Object> group = member.join("groups");
+                members.select(member.get("id")).where(cb.equal(group.get("id"), filter.getGroupId()));
+                predicates.add(root.get("id").in(members));
+            }
+            if (hasText(filter.getTipoCadastro())) {
+                predicates.add(cb.equal(root.get("tipoCadastro"), filter.getTipoCadastro().trim()));
+            }
+            if (filter.getChild() != null) {
+                predicates.add(cb.equal(root.get("child"), filter.getChild()));
+            }
+            if (filter.getIntercessor() != null) {
+                predicates.add(cb.equal(root.get("intercessor"), filter.getIntercessor()));
+            }
+            if (hasText(filter.getCidade())) {
+                predicates.add(cb.equal(root.get("cidade"), filter.getCidade().trim()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
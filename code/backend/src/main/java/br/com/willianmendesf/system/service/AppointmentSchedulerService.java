@@ -1,8 +1,11 @@
 package br.com.willianmendesf.system.service;
 
 import br.com.willianmendesf.system.cache.AppointmentCache;
+import br.com.willianmendesf.system.cache.BirthdayIndexCache;
 import br.com.willianmendesf.system.exception.WhatsappMessageException;
 import br.com.willianmendesf.system.model.WhatsappSender;
+import br.com.willianmendesf.system.model.dto.MemberBirthdayDTO;
+import br.com.willianmendesf.system.model.dto.MemberRecipientDTO;
 import br.com.willianmendesf.system.model.entity.AppointmentEntity;
 import br.com.willianmendesf.system.model.entity.AppointmentExecution;
 import br.com.willianmendesf.system.model.enums.RecipientType;
@@ -11,10 +14,13 @@ import br.com.willianmendesf.system.model.enums.WhatsappMediaType;
 import br.com.willianmendesf.system.repository.AppointmentExecutionRepository;
 import br.com.willianmendesf.system.repository.AppointmentRepository;
 import br.com.willianmendesf.system.service.utils.ApiRequest;
+import br.com.willianmendesf.system.service.utils.MessageTemplate;
 import br.com.willianmendesf.system.service.utils.MessagesUtils;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.support.CronExpression;
 import org.springframework.stereotype.Service;
@@ -25,10 +31,13 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.ArrayList;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Objects.isNull;
 
@@ -41,6 +50,8 @@ public class AppointmentSchedulerService {
     private final AppointmentRepository appointmentsRepository;
     private final AppointmentExecutionRepository executionRepository;
     private final WhatsappMessageService whatsapp;
+    private final MemberRecipientService memberRecipientService;
+    private final BirthdayIndexCache birthdayIndexCache;
 
     // Configuração para janela de tempo máxima (em minutos)
     @Value("${scheduler.max.backlog.minutes:5}")
@@ -566,11 +577,12 @@ public class AppointmentSchedulerService {
         // Validar se há destinatários antes de executar
         if (!hasValidRecipients(appointment)) {
             log.warn("Appointment {} (ID: {}) does not have valid recipients. " +
-                    "RecipientType: {}, sendTo: {}, sendToGroups: {}. Skipping execution.",
+                    "RecipientType: {}, sendTo: {}, sendToGroups: {}, sendToMemberGroups: {}. Skipping execution.",
                     appointment.getName(), appointment.getId(),
                     appointment.getRecipientType(),
                     appointment.getSendTo(),
-                    appointment.getSendToGroups());
+                    appointment.getSendToGroups(),
+                    appointment.getSendToMemberGroups());
             // Lançar exceção para que o agendamento seja marcado como falha e não seja re-executado
             throw new WhatsappMessageException(
                     String.format("No valid recipients found for appointment '%s' (ID: %d). " +
@@ -588,6 +600,15 @@ public class AppointmentSchedulerService {
                     appointment.getName(), appointment.getId());
             sendMessages("group", appointment, appointment.getSendToGroups());
             log.info("Send message whatsApp to GroupsList: {}", appointment.getSendToGroups());
+        } else if(appointment.getRecipientType() == RecipientType.MEMBER_GROUP) {
+            log.info("Member group message start send for appointment: {} (ID: {})",
+                    appointment.getName(), appointment.getId());
+            sendToMemberGroups(appointment);
+            log.info("Send message whatsApp to member groups: {}", appointment.getSendToMemberGroups());
+        } else if(appointment.getRecipientType() == RecipientType.BIRTHDAY) {
+            log.info("Birthday message start send for appointment: {} (ID: {})",
+                    appointment.getName(), appointment.getId());
+            sendToBirthdays(appointment);
         }
     }
 
@@ -607,6 +628,14 @@ public class AppointmentSchedulerService {
             return !isNull(appointment.getSendToGroups()) && !appointment.getSendToGroups().isEmpty();
         }
 
+        if (appointment.getRecipientType() == RecipientType.MEMBER_GROUP) {
+            return !isNull(appointment.getSendToMemberGroups()) && !appointment.getSendToMemberGroups().isEmpty();
+        }
+
+        if (appointment.getRecipientType() == RecipientType.BIRTHDAY) {
+            return true;
+        }
+
         return false;
     }
 
@@ -653,6 +682,18 @@ public class AppointmentSchedulerService {
         }
     }
 
+    /**
+     * Valores comuns a todos os destinatários de um envio
+     */
+    private Map<String, String> createTemplateValues(AppointmentEntity appointment) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, String> values = new HashMap<>(8);
+        values.put("data", now.format(MessagesUtils.DATE_FORMATTER));
+        values.put("hora", now.format(MessagesUtils.TIME_FORMATTER));
+        values.put("agendamento", appointment.getName());
+        return values;
+    }
+
     /**
      * Envia mensagens para os destinatários
      * Lança exceção se todos os envios falharem
@@ -661,50 +702,141 @@ public class AppointmentSchedulerService {
         if (recipients == null || recipients.isEmpty())
             return;
 
-        String monitoringMessage = MessagesUtils.generateMonitoringMessage(appointment);
-        int totalRecipients = recipients.size();
-        AtomicInteger successCount = new AtomicInteger(0);
-        List<String> errors = new ArrayList<>();
+        Broadcast broadcast = new Broadcast(type, appointment);
+        recipients.forEach(recipient -> broadcast.send(recipient, null));
+        broadcast.finish();
+    }
+
+    /**
+     * Envia para os membros dos grupos selecionados, lote a lote conforme são lidos do banco
+     * Lança exceção se nenhum membro tiver celular válido ou se todos os envios falharem
+     */
+    private void sendToMemberGroups(AppointmentEntity appointment) {
+        Broadcast broadcast = new Broadcast("memberGroup", appointment);
+        int total = memberRecipientService.forEachRecipientChunk(appointment.getSendToMemberGroups(),
+                chunk -> chunk.forEach(member -> broadcast.send(member.getPhone(), member)));
+
+        if (total == 0) {
+            throw new WhatsappMessageException(String.format(
+                    "No members with a valid phone found in groups %s for appointment '%s' (ID: %d)",
+                    appointment.getSendToMemberGroups(), appointment.getName(), appointment.getId()));
+        }
+        broadcast.finish();
+    }
 
-        recipients.forEach(recipient -> {
+    /**
+     * Envia para os membros que fazem aniversário hoje (nascidos em 29/02 recebem em 28/02 nos anos não bissextos).
+     * Dia sem aniversariantes não é falha: nada é enviado
+     */
+    private void sendToBirthdays(AppointmentEntity appointment) {
+        List<MemberBirthdayDTO> birthdays = birthdayIndexCache.upcoming(LocalDate.now(), 1);
+        Set<String> seen = new HashSet<>();
+        List<MemberRecipientDTO> recipients = new ArrayList<>(birthdays.size());
+        for (MemberBirthdayDTO birthday : birthdays) {
+            String phone = PhoneUtil.formatForWhatsApp(birthday.getCelular());
+            if (phone != null && seen.add(phone)) {
+                recipients.add(new MemberRecipientDTO(phone, birthday.getNome(), null));
+            }
+        }
+
+        if (recipients.isEmpty()) {
+            log.info("No birthdays with a valid phone today for appointment {} (ID: {}): {} member(s) found",
+                    appointment.getName(), appointment.getId(), birthdays.size());
+            return;
+        }
+
+        Broadcast broadcast = new Broadcast("birthday", appointment);
+        recipients.forEach(member -> broadcast.send(member.getPhone(), member));
+        broadcast.finish();
+        log.info("Birthday message sent to {} member(s)", recipients.size());
+    }
+
+    /**
+     * Estado de um envio: mídia e template preparados uma vez, contadores de sucesso e erros
+     */
+    private class Broadcast {
+        private final String type;
+        private final AppointmentEntity appointment;
+        private final String monitoringMessage;
+        private final boolean withImage;
+        private final Resource media;
+        // Template compilado quando o agendamento entrou no cache; só os valores variam por destinatário
+        private final MessageTemplate template;
+        private final Map<String, String> values;
+        private final List<String> errors = new ArrayList<>();
+        private int totalRecipients;
+        private int successCount;
+
+        private Broadcast(String type, AppointmentEntity appointment) {
+            this.type = type;
+            this.appointment = appointment;
+            this.monitoringMessage = MessagesUtils.generateMonitoringMessage(appointment);
+            // Imagem lida uma única vez e compartilhada entre todos os destinatários
+            this.withImage = !type.equals("monitoring")
+                    && Boolean.TRUE.equals(appointment.getSendImage()) && !isNull(appointment.getImageToSend());
+            this.media = withImage ? whatsapp.loadMedia(appointment.getImageToSend()) : null;
+            this.template = appointmentCache.getMessageTemplate(appointment);
+            this.values = createTemplateValues(appointment);
+        }
+
+        /**
+         * @param member dados do membro para {{nome}} e {{grupo}}; null fora de envios para membros (grupos ou aniversariantes)
+         */
+        private void send(String recipient, MemberRecipientDTO member) {
+            totalRecipients++;
             try {
                 WhatsappSender message = new WhatsappSender();
 
                 if(!type.equals("monitoring")) {
-                    if(Boolean.TRUE.equals(appointment.getSendImage()) && !isNull(appointment.getImageToSend())) {
+                    if(withImage) {
                         message.setMedia(appointment.getImageToSend());
                         message.setMediaType(WhatsappMediaType.IMAGE);
                     }
                     message.setPhone(recipient);
-                    message.setMessage(appointment.getMessage());
+                    if (template.hasPlaceholders()) {
+                        values.put("telefone", recipient);
+                        // Sem dados de membro (INDIVIDUAL/GROUP), {{nome}} e {{grupo}} seguem como texto
+                        if (member != null) {
+                            values.put("nome", member.getNome());
+                            values.put("grupo", member.getGrupo());
+                        } else {
+                            values.remove("nome");
+                            values.remove("grupo");
+                        }
+                        message.setMessage(template.render(values));
+                    } else {
+                        message.setMessage(appointment.getMessage());
+                    }
                 } else {
                     message.setPhone(recipient);
                     message.setMessage(monitoringMessage);
                 }
-                whatsapp.sendMessage(message);
-                successCount.incrementAndGet();
+                whatsapp.sendMessage(message, media);
+                successCount++;
             } catch (Exception e) {
-                String errorMsg = String.format("Error sending message to recipient %s: %s", 
+                String errorMsg = String.format("Error sending message to recipient %s: %s",
                     recipient, e.getMessage());
-                log.error("Error sending message to recipient {} for appointment {} (ID: {}): {}. Continuing with other recipients.", 
+                log.error("Error sending message to recipient {} for appointment {} (ID: {}): {}. Continuing with other recipients.",
                         recipient, appointment.getName(), appointment.getId(), e.getMessage(), e);
                 errors.add(errorMsg);
             }
-        });
-        
-        // Se todos os envios falharam, lançar exceção para marcar o agendamento como falha
-        if (successCount.get() == 0 && totalRecipients > 0) {
-            String errorMessage = String.format(
-                "Failed to send messages to all %d recipient(s) for appointment '%s' (ID: %d). Errors: %s",
-                totalRecipients, appointment.getName(), appointment.getId(), 
-                String.join("; ", errors));
-            throw new RuntimeException(errorMessage);
         }
-        
-        // Se pelo menos um falhou mas não todos, logar aviso
-        if (successCount.get() > 0 && successCount.get() < totalRecipients) {
-            log.warn("Partial failure: {}/{} messages sent successfully for appointment {} (ID: {})", 
-                successCount.get(), totalRecipients, appointment.getName(), appointment.getId());
+
+        private void finish() {
+            // Se todos os envios falharam, lançar exceção para marcar o agendamento como falha
+            if (successCount == 0 && totalRecipients > 0) {
+                String errorMessage = String.format(
+                    "Failed to send messages to all %d recipient(s) for appointment '%s' (ID: %d). Errors: %s",
+                    totalRecipients, appointment.getName(), appointment.getId(),
+                    String.join("; ", errors));
+                throw new RuntimeException(errorMessage);
+            }
+
+            // Se pelo menos um falhou mas não todos, logar aviso
+            if (successCount > 0 && successCount < totalRecipients) {
+                log.warn("Partial failure: {}/{} messages sent successfully for appointment {} (ID: {})",
+                    successCount, totalRecipients, appointment.getName(), appointment.getId());
+            }
         }
     }
 }
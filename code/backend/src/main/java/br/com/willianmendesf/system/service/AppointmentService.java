@@ -124,6 +124,14 @@ public class AppointmentService {
             return !isNull(appointment.getSendToGroups()) && !appointment.getSendToGroups().isEmpty();
         }
 
+        if (appointment.getRecipientType() == RecipientType.MEMBER_GROUP) {
+            return !isNull(appointment.getSendToMemberGroups()) && !appointment.getSendToMemberGroups().isEmpty();
+        }
+
+        if (appointment.getRecipientType() == RecipientType.BIRTHDAY) {
+            return true;
+        }
+
         return false;
     }
 }
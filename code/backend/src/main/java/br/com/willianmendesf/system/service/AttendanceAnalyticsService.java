@@ -0,0 +1,76 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.cache.AttendanceBitmapCache;
+import br.com.willianmendesf.system.model.dto.AttendanceCohortDTO;
+import br.com.willianmendesf.system.model.dto.PersonSuggestionDTO;
+import br.com.willianmendesf.system.model.enums.EventType;
+import br.com.willianmendesf.system.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Análises de frequência sobre o AttendanceBitmapCache; o banco só é consultado para os nomes dos membros do resultado
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceAnalyticsService {
+
+    private static final int MAX_EVENTS = 520;
+    private static final int MAX_WEEKS = 520;
+
+    private final AttendanceBitmapCache attendanceBitmaps;
+    private final MemberRepository memberRepository;
+
+    /**
+     * Membros presentes em pelo menos min dos últimos last eventos com chamada (ex.: 3 dos últimos 4 cultos)
+     */
+    public AttendanceCohortDTO getFrequent(int last, int min, EventType type, LocalDate until) {
+        if (last < 1 || last > MAX_EVENTS)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "last deve estar entre 1 e " + MAX_EVENTS);
+        if (min < 1 || min > last)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "min deve estar entre 1 e last");
+
+        List<Long> eventIds = attendanceBitmaps.lastEvents(until != null ? until : LocalDate.now(), type, last);
+        return toCohort(eventIds, attendanceBitmaps.presentAtLeast(eventIds, min));
+    }
+
+    /**
+     * Membros presentes em todos os eventos de present e ausentes em todos os de absent
+     */
+    public AttendanceCohortDTO getPresentAbsent(List<Long> present, List<Long> absent) {
+        if (present == null || present.isEmpty())
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe ao menos um evento em present");
+        List<Long> absentIds = absent != null ? absent : List.of();
+
+        List<Long> eventIds = new ArrayList<>(present);
+        eventIds.addAll(absentIds);
+        return toCohort(eventIds, attendanceBitmaps.presentInAllAndNone(present, absentIds));
+    }
+
+    /**
+     * Membros que vinham toda semana por streakWeeks semanas e faltaram nas últimas absentWeeks
+     */
+    public AttendanceCohortDTO getLost(int streakWeeks, int absentWeeks, EventType type, LocalDate reference) {
+        if (streakWeeks < 1 || streakWeeks > MAX_WEEKS || absentWeeks < 1 || absentWeeks > MAX_WEEKS)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Semanas devem estar entre 1 e " + MAX_WEEKS);
+
+        BitSet lost = attendanceBitmaps.lostMembers(reference != null ? reference : LocalDate.now(), type, streakWeeks, absentWeeks);
+        return toCohort(List.of(), lost);
+    }
+
+    private AttendanceCohortDTO toCohort(List<Long> eventIds, BitSet members) {
+        List<Long> ids = members.stream().mapToObj(Long::valueOf).toList();
+        List<PersonSuggestionDTO> people = new ArrayList<>(ids.size());
+        memberRepository.findAllById(ids).forEach(member -> people.add(new PersonSuggestionDTO(member.getId(), member.getNome())));
+        people.sort(Comparator.comparing(PersonSuggestionDTO::getNome, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        return new AttendanceCohortDTO(eventIds, people.size(), people);
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -164,43 +165,32 @@ public class AttendanceService {
                 throw new MembersException("Data início e data fim são obrigatórias");
             }
             
-            // Buscar todos os eventos no período
-            List<EventEntity> events = eventRepository.findByDateBetween(startDate, endDate);
-            int totalEvents = events.size();
-            
-            // Buscar todos os membros
-            List<MemberEntity> allMembers = memberRepository.findAll();
-            
+            int totalEvents = (int) eventRepository.countByDateBetween(startDate, endDate);
+
+            // Presenças por membro numa única consulta agrupada; membros fora do mapa têm 0 presenças,
+            // por isso os filtros são aplicados aqui e não no SQL
+            Map<Long, Long> presenceByMember = new HashMap<>();
+            for (Object[] row : attendanceRepository.countPresenceByMemberInRange(startDate, endDate)) {
+                presenceByMember.put((Long) row[0], (Long) row[1]);
+            }
+
             List<AttendanceReportDTO> reports = new ArrayList<>();
-            
-            for (MemberEntity member : allMembers) {
-                // Contar presenças do membro no período
-                int presenceCount = 0;
-                for (EventEntity event : events) {
-                    if (attendanceRepository.existsByMemberIdAndEventId(member.getId(), event.getId())) {
-                        presenceCount++;
-                    }
-                }
-                
+            for (MemberEntity member : memberRepository.findAllWithGroups()) {
+                int presenceCount = presenceByMember.getOrDefault(member.getId(), 0L).intValue();
                 int absenceCount = totalEvents - presenceCount;
-                double presencePercentage = totalEvents > 0 ? (double) presenceCount / totalEvents * 100 : 0.0;
-                
-                // Aplicar filtros
-                boolean matches = true;
-                if (minPresence != null && presenceCount < minPresence) matches = false;
-                if (maxPresence != null && presenceCount > maxPresence) matches = false;
-                if (minAbsence != null && absenceCount < minAbsence) matches = false;
-                if (maxAbsence != null && absenceCount > maxAbsence) matches = false;
-                
-                if (matches) {
-                    AttendanceReportDTO report = new AttendanceReportDTO();
-                    report.setMember(new MemberDTO(member));
-                    report.setTotalEvents(totalEvents);
-                    report.setPresenceCount(presenceCount);
-                    report.setAbsenceCount(absenceCount);
-                    report.setPresencePercentage(presencePercentage);
-                    reports.add(report);
-                }
+
+                if (minPresence != null && presenceCount < minPresence) continue;
+                if (maxPresence != null && presenceCount > maxPresence) continue;
+                if (minAbsence != null && absenceCount < minAbsence) continue;
+                if (maxAbsence != null && absenceCount > maxAbsence) continue;
+
+                AttendanceReportDTO report = new AttendanceReportDTO();
+                report.setMember(new MemberDTO(member));
+                report.setTotalEvents(totalEvents);
+                report.setPresenceCount(presenceCount);
+                report.setAbsenceCount(absenceCount);
+                report.setPresencePercentage(totalEvents > 0 ? (double) presenceCount / totalEvents * 100 : 0.0);
+                reports.add(report);
             }
             
             log.info("Report generated - {} members match criteria", reports.size());
@@ -0,0 +1,168 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.model.dto.ImportJobDTO;
+import br.com.willianmendesf.system.model.dto.ImportResultDTO;
+import br.com.willianmendesf.system.model.enums.JobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Importações de membros e visitantes em segundo plano.
+ * A requisição salva o arquivo em disco e retorna imediatamente um jobId; a importação roda no pool
+ * "importExecutor" e o progresso (contagens do ImportResultDTO) é atualizado a cada lote gravado.
+ * O resultado final fica disponível por FINISHED_JOB_RETENTION_HOURS (apenas em memória)
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private static final int FINISHED_JOB_RETENTION_HOURS = 24;
+
+    public enum ImportType { MEMBERS, VISITORS }
+
+    private final MemberImportService memberImportService;
+    private final VisitorImportService visitorImportService;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(MemberImportService memberImportService,
+                            VisitorImportService visitorImportService,
+                            @Qualifier("importExecutor") ThreadPoolTaskExecutor executor) {
+        this.memberImportService = memberImportService;
+        this.visitorImportService = visitorImportService;
+        this.executor = executor;
+    }
+
+    // Só OOXML: o ExcelRowReader abre a planilha como pacote (OPCPackage); .xls (BIFF) é recusado no envio
+    public static boolean isExcel(String fileName) {
+        return fileName.toLowerCase().endsWith(".xlsx");
+    }
+
+    public ImportJobDTO submit(ImportType type, MultipartFile file) {
+        if (file == null || file.isEmpty())
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Arquivo vazio ou não fornecido");
+
+        String fileName = file.getOriginalFilename();
+        if (fileName == null)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nome do arquivo não disponível");
+        if (fileName.toLowerCase().endsWith(".xls"))
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Planilhas .xls (Excel 97-2003) não são suportadas. Salve o arquivo como .xlsx ou .csv");
+        if (!isExcel(fileName) && !fileName.toLowerCase().endsWith(".csv"))
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato de arquivo não suportado. Use .xlsx ou .csv");
+
+        // O upload só existe durante a requisição: a cópia em disco é lida pelo job e removida ao final
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("import-" + type.name().toLowerCase() + "-", isExcel(fileName) ? ".xlsx" : ".csv");
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            log.error("Error storing import file {}", fileName, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Erro ao receber arquivo: " + e.getMessage());
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), type, fileName, tempFile);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            deleteQuietly(tempFile);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Fila de importação cheia, tente novamente mais tarde");
+        }
+
+        log.info("Import job {} queued: {} {}", job.id, type, fileName);
+        return job.toDTO();
+    }
+
+    public ImportJobDTO getJob(ImportType type, String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || job.type != type)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Import job not found: " + jobId);
+        return job.toDTO();
+    }
+
+    /**
+     * Remove da memória jobs finalizados há mais de FINISHED_JOB_RETENTION_HOURS
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void cleanupFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(FINISHED_JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private void run(ImportJob job) {
+        job.status = JobStatus.RUNNING;
+        try {
+            ImportResultDTO result = switch (job.type) {
+                case MEMBERS -> memberImportService.importFile(job.file, job.fileName, job::publish);
+                case VISITORS -> visitorImportService.importFile(job.file, job.fileName, job::publish);
+            };
+            job.finish(JobStatus.COMPLETED, result);
+        } catch (Exception e) {
+            log.error("Import job {} failed: {}", job.id, job.fileName, e);
+            ImportResultDTO result = job.result.copy();
+            result.addError(0, "Erro ao processar arquivo: " + e.getMessage());
+            job.finish(JobStatus.FAILED, result);
+        } finally {
+            deleteQuietly(job.file);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temp import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static class ImportJob {
+        private final String id;
+        private final ImportType type;
+        private final String fileName;
+        private final Path file;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        // Cópia publicada pela thread da importação; nunca alterada depois de atribuída
+        private volatile ImportResultDTO result = new ImportResultDTO();
+        private volatile LocalDateTime finishedAt;
+
+        private ImportJob(String id, ImportType type, String fileName, Path file) {
+            this.id = id;
+            this.type = type;
+            this.fileName = fileName;
+            this.file = file;
+        }
+
+        private void publish(ImportResultDTO progress) {
+            result = progress.copy();
+        }
+
+        private void finish(JobStatus finalStatus, ImportResultDTO finalResult) {
+            result = finalResult.copy();
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private ImportJobDTO toDTO() {
+            return new ImportJobDTO(id, status, fileName, createdAt, finishedAt, result.copy());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.model.dto.MemberChangesDTO;
+import br.com.willianmendesf.system.model.dto.MemberDTO;
+import br.com.willianmendesf.system.model.entity.MemberTombstoneEntity;
+import br.com.willianmendesf.system.repository.MemberRepository;
+import br.com.willianmendesf.system.repository.MemberTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Feed de alterações de membros para sincronização incremental (GET /members/changes).
+ * O cursor é a posição (momento, id) da última alteração entregue, sobre register.updated_at
+ * para criações/alterações e member_tombstones.deleted_at para exclusões, ambos indexados.
+ * Alterações dos últimos SETTLE_SECONDS ainda não são entregues: uma transação gravada antes
+ * pode terminar depois de outra, e o cursor não pode passar por ela antes do commit
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberChangeFeedService {
+
+    public static final int MAX_LIMIT = 1000;
+    private static final long SETTLE_SECONDS = 5;
+    private static final Cursor START = new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final MemberRepository memberRepository;
+    private final MemberTombstoneRepository tombstoneRepository;
+    private final MemberService memberService;
+
+    /**
+     * Membros cadastrados antes da coluna updated_at entram no feed a partir da primeira inicialização
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillUpdatedAt() {
+        int updated = memberRepository.fillMissingUpdatedAt(LocalDateTime.now());
+        if (updated > 0) {
+            log.info("updated_at backfilled for {} members", updated);
+        }
+    }
+
+    /**
+     * @param since cursor retornado pela chamada anterior; vazio para sincronização completa
+     */
+    @Transactional(readOnly = true)
+    public MemberChangesDTO getChanges(String since, int limit) {
+        Cursor from = since == null || since.isBlank() ? START : Cursor.decode(since);
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        LocalDateTime until = LocalDateTime.now().minusSeconds(SETTLE_SECONDS);
+        PageRequest page = PageRequest.of(0, size);
+
+        List<Change> changes = new ArrayList<>();
+        List<Object[]> updated = memberRepository.findChangedAfter(from.time(), from.id(), until, page);
+        updated.forEach(row -> changes.add(new Change((LocalDateTime) row[1], (Long) row[0], false)));
+        List<MemberTombstoneEntity> deleted = tombstoneRepository.findChangedAfter(from.time(), from.id(), until, page);
+        deleted.forEach(t -> changes.add(new Change(t.getDeletedAt(), t.getMemberId(), true)));
+
+        changes.sort(Comparator.comparing(Change::time).thenComparing(Change::id));
+        boolean hasMore = changes.size() > size || updated.size() == size || deleted.size() == size;
+        List<Change> delivered = changes.size() > size ? changes.subList(0, size) : changes;
+
+        List<Long> changedIds = delivered.stream().filter(c -> !c.deleted()).map(Change::id).toList();
+        Map<Long, MemberDTO> byId = changedIds.isEmpty() ? Map.of()
+                : memberService.toDTOsWithEnrollments(memberRepository.findAllWithGroupsByIdIn(changedIds)).stream()
+                        .collect(Collectors.toMap(MemberDTO::getId, Function.identity()));
+
+        MemberChangesDTO result = new MemberChangesDTO();
+        for (Change change : delivered) {
+            if (change.deleted()) {
+                result.getDeleted().add(change.id());
+            } else if (byId.containsKey(change.id())) {
+                result.getChanged().add(byId.get(change.id()));
+            }
+        }
+        Cursor next = delivered.isEmpty() ? from : new Cursor(delivered.get(delivered.size() - 1).time(),
+                delivered.get(delivered.size() - 1).id());
+        result.setCursor(next.encode());
+        result.setHasMore(hasMore);
+        return result;
+    }
+
+    private record Change(LocalDateTime time, Long id, boolean deleted) { }
+
+    /**
+     * Posição no feed, trafegada como texto opaco (Base64 de "momento|id")
+     */
+    private record Cursor(LocalDateTime time, Long id) {
+
+        private String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((time + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Cursor decode(String value) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("\\|");
+                return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (Exception e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.repository.MemberRepository;
+import br.com.willianmendesf.system.repository.projection.MemberExportProjection;
+import br.com.willianmendesf.system.service.utils.MessagesUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de membros em XLSX ou CSV, nas colunas do modelo de importação.
+ * As linhas vêm de um cursor do banco e são escritas direto na saída: o XLSX usa SXSSF,
+ * que mantém só uma janela de linhas em memória e descarrega o restante em arquivo temporário
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberExportService {
+
+    // Linhas mantidas em memória pelo SXSSF antes de descarregar para o arquivo temporário
+    private static final int XLSX_ROW_WINDOW = 200;
+
+    private final MemberRepository memberRepository;
+
+    @Transactional(readOnly = true)
+    public int exportXlsx(OutputStream output) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try (Stream<MemberExportProjection> members = memberRepository.streamAllForExport()) {
+            Sheet sheet = workbook.createSheet("Membros");
+            writeXlsxHeader(workbook, sheet);
+
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy"));
+
+            int rowIndex = 1;
+            Iterator<MemberExportProjection> iterator = members.iterator();
+            while (iterator.hasNext()) {
+                MemberExportProjection member = iterator.next();
+                Row row = sheet.createRow(rowIndex++);
+                String[] values = toValues(member);
+                for (int i = 0; i < values.length; i++) {
+                    if (i == 2 && member.getNascimento() != null) {
+                        Cell cell = row.createCell(i);
+                        cell.setCellValue(member.getNascimento());
+                        cell.setCellStyle(dateStyle);
+                    } else if (values[i] != null) {
+                        row.createCell(i).setCellValue(values[i]);
+                    }
+                }
+            }
+
+            workbook.write(output);
+            log.info("Exported {} members to XLSX", rowIndex - 1);
+            return rowIndex - 1;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public int exportCsv(OutputStream output) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        int count = 0;
+        try (Stream<MemberExportProjection> members = memberRepository.streamAllForExport()) {
+            // BOM para o Excel reconhecer UTF-8 (acentos)
+            writer.write('\uFEFF');
+            writeCsvLine(writer, MemberImportService.TEMPLATE_HEADERS);
+
+            Iterator<MemberExportProjection> iterator = members.iterator();
+            while (iterator.hasNext()) {
+                writeCsvLine(writer, toValues(iterator.next()));
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("Exported {} members to CSV", count);
+        return count;
+    }
+
+    private void writeXlsxHeader(SXSSFWorkbook workbook, Sheet sheet) {
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        headerStyle.setFont(font);
+
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < MemberImportService.TEMPLATE_HEADERS.length; i++) {
+            Cell cell = header.createCell(i);
+            cell.setCellValue(MemberImportService.TEMPLATE_HEADERS[i]);
+            cell.setCellStyle(headerStyle);
+            // Largura fixa: autoSizeColumn exigiria rastrear todas as linhas
+            sheet.setColumnWidth(i, 5000);
+        }
+    }
+
+    /**
+     * Valores na ordem de MemberImportService.TEMPLATE_HEADERS, no formato aceito pela importação
+     */
+    private String[] toValues(MemberExportProjection member) {
+        LocalDate nascimento = member.getNascimento();
+        return new String[] {
+                member.getNome(),
+                member.getTipoCadastro(),
+                nascimento != null ? nascimento.format(MessagesUtils.DATE_FORMATTER) : null,
+                Boolean.TRUE.equals(member.getEstadoCivil()) ? "Casado" : "Solteiro",
+                member.getCep(),
+                member.getLogradouro(),
+                member.getNumero(),
+                member.getComplemento(),
+                member.getBairro(),
+                member.getCidade(),
+                member.getEstado(),
+                member.getTelefone(),
+                member.getComercial(),
+                member.getCelular(),
+                member.getEmail(),
+                member.getGrupos()
+        };
+    }
+
+    private void writeCsvLine(BufferedWriter writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Aspas quando necessário; quebras de linha viram espaço porque a importação lê uma linha por registro
+     */
+    private String escapeCsv(String value) {
+        if (value == null || value.isEmpty()) return "";
+        String singleLine = value.replace("\r\n", " ").replace('\n', ' ').replace('\r', ' ');
+        if (singleLine.indexOf(',') < 0 && singleLine.indexOf('"') < 0) return singleLine;
+        return '"' + singleLine.replace("\"", "\"\"") + '"';
+    }
+}
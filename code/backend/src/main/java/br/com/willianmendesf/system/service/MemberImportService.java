@@ -3,508 +3,328 @@ package br.com.willianmendesf.system.service;
 import br.com.willianmendesf.system.model.dto.ImportResultDTO;
 import br.com.willianmendesf.system.model.entity.MemberEntity;
 import br.com.willianmendesf.system.repository.MemberRepository;
+import br.com.willianmendesf.system.service.utils.ExcelRowReader;
+import br.com.willianmendesf.system.service.utils.HashUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.ByteArrayOutputStream;
 import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberImportService {
 
+    /**
+     * Colunas do modelo de importação (também usadas pela exportação)
+     */
+    public static final String[] TEMPLATE_HEADERS = {
+        "Nome", "Tipo Cadastro", "Data Nascimento", "Estado Civil",
+        "CEP", "Logradouro", "Número", "Complemento", "Bairro", "Cidade", "Estado",
+        "Telefone", "Comercial", "Celular", "Email", "Grupos"
+    };
+
+    /**
+     * Linhas gravadas por transação: um erro de banco descarta só o lote, não a importação inteira
+     */
+    public static final int BATCH_SIZE = 500;
+
     private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * Imports members from Excel (.xlsx) or CSV file
+     * Importa um arquivo .xlsx ou .csv já salvo em disco (ver ImportJobService)
+     * @param progress recebe o resultado parcial após cada lote gravado
      */
-    @Transactional
-    public ImportResultDTO importMembers(MultipartFile file) {
+    public ImportResultDTO importFile(Path file, String fileName, Consumer<ImportResultDTO> progress) throws IOException {
         ImportResultDTO result = new ImportResultDTO();
-        
-        if (file == null || file.isEmpty()) {
-            result.addError(0, "Arquivo vazio ou não fornecido");
-            return result;
-        }
-
-        String fileName = file.getOriginalFilename();
-        if (fileName == null) {
-            result.addError(0, "Nome do arquivo não disponível");
-            return result;
+        MemberBatch batch = new MemberBatch(loadExistingEmails(), result, progress);
+        if (ImportJobService.isExcel(fileName)) {
+            ExcelRowReader.read(file, batch::add);
+        } else {
+            readCsv(file, batch::add);
         }
+        batch.flush();
+        // Linhas em branco não entram no total: sucesso + erros == total
+        result.setTotalRows(batch.rowsRead);
 
-        try {
-            if (fileName.endsWith(".xlsx") || fileName.endsWith(".xls")) {
-                return importFromExcel(file, result);
-            } else if (fileName.endsWith(".csv")) {
-                return importFromCsv(file, result);
-            } else {
-                result.addError(0, "Formato de arquivo não suportado. Use .xlsx ou .csv");
-                return result;
-            }
-        } catch (Exception e) {
-            log.error("Error importing members from file: {}", fileName, e);
-            result.addError(0, "Erro ao processar arquivo: " + e.getMessage());
-            return result;
-        }
+        log.info("Member import {}: {} rows, {} created, {} updated, {} unchanged, {} errors", fileName,
+                result.getTotalRows(), result.getCreatedCount(), result.getUpdatedCount(),
+                result.getUnchangedCount(), result.getErrorCount());
+        return result;
     }
 
     /**
-     * Imports members from Excel file
+     * Emails já cadastrados (minúsculos) -> id do membro, carregados numa única consulta.
+     * Em emails repetidos no banco vale o cadastro mais antigo
      */
-    private ImportResultDTO importFromExcel(MultipartFile file, ImportResultDTO result) throws Exception {
-        List<MemberEntity> membersToSave = new ArrayList<>();
-        
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-            result.setTotalRows(sheet.getLastRowNum());
-            
-            // Skip header row (row 0)
-            for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-                Row row = sheet.getRow(rowIndex);
-                if (row == null) continue;
-                
-                // Skip completely empty rows
-                boolean hasData = false;
-                for (int cellIndex = 0; cellIndex < row.getLastCellNum(); cellIndex++) {
-                    Cell cell = row.getCell(cellIndex);
-                    if (cell != null) {
-                        String value = getCellValueAsString(cell);
-                        if (value != null && !value.trim().isEmpty()) {
-                            hasData = true;
-                            break;
-                        }
-                    }
-                }
-                if (!hasData) continue; // Skip empty rows
-                
-                try {
-                    MemberEntity member = parseMemberFromExcelRow(row, rowIndex + 1, result);
-                    if (member != null) {
-                        membersToSave.add(member);
-                    }
-                } catch (Exception e) {
-                    result.addError(rowIndex + 1, "Erro ao processar linha: " + e.getMessage());
-                    result.setErrorCount(result.getErrorCount() + 1);
-                }
-            }
+    private Map<String, Long> loadExistingEmails() {
+        Map<String, Long> idsByEmail = new HashMap<>();
+        for (Object[] row : memberRepository.findAllEmailAndId()) {
+            idsByEmail.putIfAbsent(emailKey((String) row[0]), (Long) row[1]);
         }
-        
-        // Batch save all members
-        if (!membersToSave.isEmpty()) {
-            try {
-                List<MemberEntity> savedMembers = memberRepository.saveAll(membersToSave);
-                result.setSuccessCount(savedMembers.size());
-                // Created/Updated counts are already set in parseMemberFromExcelRow
-            } catch (Exception e) {
-                log.error("Error saving members batch: {}", e.getMessage(), e);
-                result.addError(0, "Erro ao salvar membros: " + e.getMessage());
-            }
-        }
-        
-        return result;
+        return idsByEmail;
     }
 
     /**
-     * Imports members from CSV file
+     * Lê o CSV linha a linha, ignorando o cabeçalho e linhas em branco
+     * @return quantidade de linhas de dados lidas
      */
-    private ImportResultDTO importFromCsv(MultipartFile file, ImportResultDTO result) throws Exception {
-        List<MemberEntity> membersToSave = new ArrayList<>();
-        
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), "UTF-8"))) {
+    private int readCsv(Path file, ExcelRowReader.RowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
             String line;
-            int rowNumber = 0;
+            int rowNumber = 1;
             
             // Skip header row
             reader.readLine();
-            rowNumber++;
             
             while ((line = reader.readLine()) != null) {
                 rowNumber++;
-                try {
-                    String[] values = parseCsvLine(line);
-                    MemberEntity member = parseMemberFromCsvRow(values, rowNumber, result);
-                    if (member != null) {
-                        membersToSave.add(member);
-                    }
-                } catch (Exception e) {
-                    result.addError(rowNumber, "Erro ao processar linha: " + e.getMessage());
-                    result.setErrorCount(result.getErrorCount() + 1);
-                }
+                if (line.isBlank()) continue;
+                handler.row(rowNumber, parseCsvLine(line));
             }
             
-            result.setTotalRows(rowNumber - 1); // Exclude header
+            return rowNumber - 1; // Exclude header
         }
-        
-        // Batch save all members
-        if (!membersToSave.isEmpty()) {
+    }
+
+    /**
+     * Acumula as linhas lidas e grava a cada BATCH_SIZE, cada lote na sua própria transação
+     */
+    private final class MemberBatch {
+        private final Map<String, Long> idsByEmail;
+        private final ImportResultDTO result;
+        private final Consumer<ImportResultDTO> progress;
+        private final List<ImportRow> rows = new ArrayList<>(BATCH_SIZE);
+        private int rowsRead;
+
+        private MemberBatch(Map<String, Long> idsByEmail, ImportResultDTO result, Consumer<ImportResultDTO> progress) {
+            this.idsByEmail = idsByEmail;
+            this.result = result;
+            this.progress = progress;
+        }
+
+        private void add(int rowNumber, String[] values) {
+            if (isBlankRow(values)) return;
+            rowsRead++;
+            rows.add(new ImportRow(rowNumber, values));
+            if (rows.size() >= BATCH_SIZE) flush();
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) return;
+            List<ImportRow> chunk = List.copyOf(rows);
+            rows.clear();
+
+            List<ImportRow> failed = new ArrayList<>();
             try {
-                List<MemberEntity> savedMembers = memberRepository.saveAll(membersToSave);
-                result.setSuccessCount(savedMembers.size());
-                // Created/Updated counts are already set in parseMemberFromCsvRow
+                ChunkResult saved = transactionTemplate.execute(status -> saveChunk(chunk, failed));
+                // Só depois do commit: novos emails passam a atualizar o cadastro recém-criado nos lotes seguintes
+                saved.created().forEach(member -> idsByEmail.putIfAbsent(emailKey(member.getEmail()), member.getId()));
+                result.setCreatedCount(result.getCreatedCount() + saved.created().size());
+                result.setUpdatedCount(result.getUpdatedCount() + saved.updated());
+                result.setUnchangedCount(result.getUnchangedCount() + saved.unchanged());
+                result.setSuccessCount(result.getSuccessCount() + saved.created().size() + saved.updated() + saved.unchanged());
+                result.setErrorCount(result.getErrorCount() + failed.size());
             } catch (Exception e) {
-                log.error("Error saving members batch: {}", e.getMessage(), e);
-                result.addError(0, "Erro ao salvar membros: " + e.getMessage());
+                log.error("Error saving members batch (rows {}-{}): {}",
+                        chunk.get(0).number(), chunk.get(chunk.size() - 1).number(), e.getMessage(), e);
+                result.addError(chunk.get(0).number(), String.format("Erro ao salvar membros das linhas %d a %d: %s",
+                        chunk.get(0).number(), chunk.get(chunk.size() - 1).number(), e.getMessage()));
+                result.setErrorCount(result.getErrorCount() + chunk.size());
+            }
+            result.setTotalRows(rowsRead);
+            progress.accept(result);
+        }
+
+        private ChunkResult saveChunk(List<ImportRow> chunk, List<ImportRow> failed) {
+            failed.clear();
+            Set<Long> existingIds = new HashSet<>();
+            for (ImportRow row : chunk) {
+                Long id = idsByEmail.get(emailKey(value(row.values(), 14)));
+                if (id != null) existingIds.add(id);
+            }
+            Map<Long, MemberEntity> existing = new HashMap<>();
+            memberRepository.findAllById(existingIds).forEach(member -> existing.put(member.getId(), member));
+
+            // Email repetido dentro do mesmo lote: a segunda linha atualiza o membro criado pela primeira
+            // Contagens por linha: criadas + atualizadas + sem alteração + com erro == linhas do lote
+            Map<String, MemberEntity> createdByEmail = new HashMap<>();
+            List<MemberEntity> created = new ArrayList<>();
+            int updated = 0;
+            int unchanged = 0;
+
+            for (ImportRow row : chunk) {
+                try {
+                    String key = emailKey(value(row.values(), 14));
+                    MemberEntity member = key != null ? existing.get(idsByEmail.get(key)) : null;
+                    if (member == null && key != null) member = createdByEmail.get(key);
+
+                    boolean isNew = member == null;
+                    if (isNew) {
+                        member = new MemberEntity();
+                    } else if (member.getId() != null && !changes(member, row.values())) {
+                        // Reimportação da mesma linha: não toca a entidade (sem UPDATE, sem nova versão, sem eventos)
+                        unchanged++;
+                        continue;
+                    }
+                    applyRow(member, row.values());
+
+                    if (isNew) {
+                        created.add(member);
+                        if (key != null) createdByEmail.put(key, member);
+                    } else {
+                        updated++;
+                    }
+                } catch (Exception e) {
+                    log.error("Error parsing row {}: {}", row.number(), e.getMessage(), e);
+                    result.addError(row.number(), "Erro ao processar: " + e.getMessage());
+                    failed.add(row);
+                }
             }
+
+            memberRepository.saveAll(created);
+            memberRepository.flush();
+            return new ChunkResult(created, updated, unchanged);
         }
-        
-        return result;
     }
 
+    private record ImportRow(int number, String[] values) { }
+
+    private record ChunkResult(List<MemberEntity> created, int updated, int unchanged) { }
+
     /**
-     * Parses a member from Excel row
+     * Preenche o membro a partir de uma linha (planilha ou CSV).
      * Expected columns order (0-indexed):
      * 0: Nome, 1: Tipo Cadastro, 2: Data Nascimento, 3: Estado Civil,
      * 4: CEP, 5: Logradouro, 6: Número, 7: Complemento, 8: Bairro, 9: Cidade, 10: Estado,
      * 11: Telefone, 12: Comercial, 13: Celular, 14: Email, 15: Grupos
      */
-    private MemberEntity parseMemberFromExcelRow(Row row, int rowNumber, ImportResultDTO result) {
-        try {
-            String nome = getCellValueAsString(row.getCell(0));
-            String email = getCellValueAsString(row.getCell(14));
+    private void applyRow(MemberEntity member, String[] values) {
+        // Nome is required in DB, so set a default if empty
+        String nome = value(values, 0);
+        member.setNome(nome != null ? nome : "Sem Nome");
 
-            // Check if member already exists (by email) - only if provided
-            MemberEntity existingMember = null;
-            if (email != null && !email.trim().isEmpty()) {
-                existingMember = memberRepository.findByEmail(email);
-            }
+        String tipoCadastro = value(values, 1);
+        if (tipoCadastro != null) member.setTipoCadastro(tipoCadastro);
 
-            MemberEntity member;
-            if (existingMember != null) {
-                // Update existing member
-                member = existingMember;
-                result.setUpdatedCount(result.getUpdatedCount() + 1);
-            } else {
-                // Create new member
-                member = new MemberEntity();
-                result.setCreatedCount(result.getCreatedCount() + 1);
+        String nascimento = value(values, 2);
+        if (nascimento != null) {
+            LocalDate date = parseDate(nascimento);
+            if (date != null) {
+                member.setNascimento(date);
             }
+        }
 
-            // Map fields from Excel columns (all optional)
-            // Nome is required in DB, so set a default if empty
-            if (nome != null && !nome.trim().isEmpty()) {
-                member.setNome(nome);
-            } else {
-                member.setNome("Sem Nome"); // Default for required field
-            }
-            
-            String tipoCadastro = getCellValueAsString(row.getCell(1));
-            if (tipoCadastro != null && !tipoCadastro.trim().isEmpty()) {
-                member.setTipoCadastro(tipoCadastro);
-            }
-            
-            // Parse date of birth
-            Date nascimentoDate = getCellValueAsDate(row.getCell(2));
-            if (nascimentoDate != null) {
-                member.setNascimento(nascimentoDate.toInstant()
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDate());
-            }
-            
-            // Parse estado civil (boolean: true = casado, false = solteiro)
-            // Required field in DB, so set default if not provided
-            Boolean estadoCivil = getCellValueAsBoolean(row.getCell(3));
-            if (estadoCivil != null) {
-                member.setEstadoCivil(estadoCivil);
-            } else {
-                member.setEstadoCivil(false); // Default (required field)
-            }
-            
-            String cep = getCellValueAsString(row.getCell(4));
-            if (cep != null && !cep.trim().isEmpty()) {
-                member.setCep(cep);
-            }
-            
-            String logradouro = getCellValueAsString(row.getCell(5));
-            if (logradouro != null && !logradouro.trim().isEmpty()) {
-                member.setLogradouro(logradouro);
-            }
-            
-            String numero = getCellValueAsString(row.getCell(6));
-            if (numero != null && !numero.trim().isEmpty()) {
-                member.setNumero(numero);
-            }
-            
-            String complemento = getCellValueAsString(row.getCell(7));
-            if (complemento != null && !complemento.trim().isEmpty()) {
-                member.setComplemento(complemento);
-            }
-            
-            String bairro = getCellValueAsString(row.getCell(8));
-            if (bairro != null && !bairro.trim().isEmpty()) {
-                member.setBairro(bairro);
-            }
-            
-            String cidade = getCellValueAsString(row.getCell(9));
-            if (cidade != null && !cidade.trim().isEmpty()) {
-                member.setCidade(cidade);
-            }
-            
-            String estado = getCellValueAsString(row.getCell(10));
-            if (estado != null && !estado.trim().isEmpty()) {
-                member.setEstado(estado);
-            }
-            
-            String telefone = getCellValueAsString(row.getCell(11));
-            if (telefone != null && !telefone.trim().isEmpty()) {
-                member.setTelefone(telefone);
-            }
-            
-            String comercial = getCellValueAsString(row.getCell(12));
-            if (comercial != null && !comercial.trim().isEmpty()) {
-                member.setComercial(comercial);
-            }
-            
-            String celular = getCellValueAsString(row.getCell(13));
-            if (celular != null && !celular.trim().isEmpty()) {
-                member.setCelular(celular);
-            }
-            
-            if (email != null && !email.trim().isEmpty()) {
-                member.setEmail(email);
-            }
-            
-            String grupos = getCellValueAsString(row.getCell(15));
-            if (grupos != null && !grupos.trim().isEmpty()) {
-                member.setGrupos(grupos);
-            }
-            
-            // Default values
-            if (member.getIntercessor() == null) {
-                member.setIntercessor(false);
-            }
-            
-            // LGPD field is required (cannot be null)
-            if (member.getLgpd() == null) {
-                member.setLgpd(false); // Default: not accepted
-            }
+        // Estado civil (true = casado); required field in DB, so default to false
+        String estadoCivil = value(values, 3);
+        member.setEstadoCivil(estadoCivil != null && List.of("casado", "true", "1", "sim").contains(estadoCivil.toLowerCase()));
 
-            return member;
-        } catch (Exception e) {
-            log.error("Error parsing row {}: {}", rowNumber, e.getMessage(), e);
-            result.addError(rowNumber, "Erro ao processar: " + e.getMessage());
-            return null;
-        }
-    }
+        String cep = value(values, 4);
+        if (cep != null) member.setCep(cep);
 
-    /**
-     * Parses a member from CSV row
-     */
-    private MemberEntity parseMemberFromCsvRow(String[] values, int rowNumber, ImportResultDTO result) {
-        try {
-            // Accept any number of columns, just use what's available
-            String nome = (values.length > 0 && values[0] != null) ? values[0].trim() : "";
-            String email = (values.length > 14 && values[14] != null) ? values[14].trim() : "";
-
-            // Check if member already exists (by email) - only if provided
-            MemberEntity existingMember = null;
-            if (!email.isEmpty()) {
-                existingMember = memberRepository.findByEmail(email);
-            }
+        String logradouro = value(values, 5);
+        if (logradouro != null) member.setLogradouro(logradouro);
 
-            MemberEntity member;
-            if (existingMember != null) {
-                member = existingMember;
-                result.setUpdatedCount(result.getUpdatedCount() + 1);
-            } else {
-                member = new MemberEntity();
-                result.setCreatedCount(result.getCreatedCount() + 1);
-            }
+        String numero = value(values, 6);
+        if (numero != null) member.setNumero(numero);
 
-            // Map fields (all optional)
-            // Nome is required in DB, so set a default if empty
-            if (!nome.isEmpty()) {
-                member.setNome(nome);
-            } else {
-                member.setNome("Sem Nome"); // Default for required field
-            }
-            
-            String tipoCadastro = (values.length > 1 && values[1] != null) ? values[1].trim() : "";
-            if (!tipoCadastro.isEmpty()) {
-                member.setTipoCadastro(tipoCadastro);
-            }
-            
-            // Parse date
-            String nascimentoStr = (values.length > 2 && values[2] != null) ? values[2].trim() : "";
-            if (!nascimentoStr.isEmpty()) {
-                try {
-                    LocalDate nascimento = parseDate(nascimentoStr);
-                    if (nascimento != null) {
-                        member.setNascimento(nascimento);
-                    }
-                } catch (Exception e) {
-                    log.warn("Invalid date format at row {}: {}", rowNumber, nascimentoStr);
-                    // Continue without date if invalid
-                }
-            }
-            
-            // Parse estado civil (required field in DB, so set default if not provided)
-            String estadoCivilStr = (values.length > 3 && values[3] != null) ? values[3].trim().toLowerCase() : "";
-            if (estadoCivilStr.equals("casado") || estadoCivilStr.equals("true") || estadoCivilStr.equals("1")) {
-                member.setEstadoCivil(true);
-            } else {
-                member.setEstadoCivil(false); // Default (required field)
-            }
-            
-            String cep = (values.length > 4 && values[4] != null) ? values[4].trim() : "";
-            if (!cep.isEmpty()) {
-                member.setCep(cep);
-            }
-            
-            String logradouro = (values.length > 5 && values[5] != null) ? values[5].trim() : "";
-            if (!logradouro.isEmpty()) {
-                member.setLogradouro(logradouro);
-            }
-            
-            String numero = (values.length > 6 && values[6] != null) ? values[6].trim() : "";
-            if (!numero.isEmpty()) {
-                member.setNumero(numero);
-            }
-            
-            String complemento = (values.length > 7 && values[7] != null) ? values[7].trim() : "";
-            if (!complemento.isEmpty()) {
-                member.setComplemento(complemento);
-            }
-            
-            String bairro = (values.length > 8 && values[8] != null) ? values[8].trim() : "";
-            if (!bairro.isEmpty()) {
-                member.setBairro(bairro);
-            }
-            
-            String cidade = (values.length > 9 && values[9] != null) ? values[9].trim() : "";
-            if (!cidade.isEmpty()) {
-                member.setCidade(cidade);
-            }
-            
-            String estado = (values.length > 10 && values[10] != null) ? values[10].trim() : "";
-            if (!estado.isEmpty()) {
-                member.setEstado(estado);
-            }
-            
-            String telefone = (values.length > 11 && values[11] != null) ? values[11].trim() : "";
-            if (!telefone.isEmpty()) {
-                member.setTelefone(telefone);
-            }
-            
-            String comercial = (values.length > 12 && values[12] != null) ? values[12].trim() : "";
-            if (!comercial.isEmpty()) {
-                member.setComercial(comercial);
-            }
-            
-            String celular = (values.length > 13 && values[13] != null) ? values[13].trim() : "";
-            if (!celular.isEmpty()) {
-                member.setCelular(celular);
-            }
-            
-            if (!email.isEmpty()) {
-                member.setEmail(email);
-            }
-            
-            String grupos = (values.length > 15 && values[15] != null) ? values[15].trim() : "";
-            if (!grupos.isEmpty()) {
-                member.setGrupos(grupos);
-            }
-            
-            if (member.getIntercessor() == null) {
-                member.setIntercessor(false);
-            }
-            
-            // LGPD field is required (cannot be null)
-            if (member.getLgpd() == null) {
-                member.setLgpd(false); // Default: not accepted
-            }
+        String complemento = value(values, 7);
+        if (complemento != null) member.setComplemento(complemento);
 
-            return member;
-        } catch (Exception e) {
-            log.error("Error parsing CSV row {}: {}", rowNumber, e.getMessage(), e);
-            result.addError(rowNumber, "Erro ao processar: " + e.getMessage());
-            return null;
+        String bairro = value(values, 8);
+        if (bairro != null) member.setBairro(bairro);
+
+        String cidade = value(values, 9);
+        if (cidade != null) member.setCidade(cidade);
+
+        String estado = value(values, 10);
+        if (estado != null) member.setEstado(estado);
+
+        String telefone = value(values, 11);
+        if (telefone != null) member.setTelefone(telefone);
+
+        String comercial = value(values, 12);
+        if (comercial != null) member.setComercial(comercial);
+
+        String celular = value(values, 13);
+        if (celular != null) member.setCelular(celular);
+
+        String email = value(values, 14);
+        if (email != null) member.setEmail(email);
+
+        String grupos = value(values, 15);
+        if (grupos != null) member.setGrupos(grupos);
+
+        // Default values
+        if (member.getIntercessor() == null) {
+            member.setIntercessor(false);
+        }
+
+        // LGPD field is required (cannot be null)
+        if (member.getLgpd() == null) {
+            member.setLgpd(false); // Default: not accepted
         }
     }
 
     /**
-     * Helper methods for reading cell values
+     * Compara a impressão digital dos campos importados do membro com a que ele teria após aplicar a linha;
+     * a linha é aplicada numa cópia desanexada, sem alterar a entidade gerenciada
      */
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) return null;
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                } else {
-                    // Remove decimal if it's a whole number
-                    double numValue = cell.getNumericCellValue();
-                    if (numValue == (long) numValue) {
-                        return String.valueOf((long) numValue);
-                    } else {
-                        return String.valueOf(numValue);
-                    }
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return null;
-        }
+    private boolean changes(MemberEntity member, String[] values) {
+        MemberEntity candidate = new MemberEntity(member);
+        applyRow(candidate, values);
+        return !fingerprint(member).equals(fingerprint(candidate));
     }
 
-    private Date getCellValueAsDate(Cell cell) {
-        if (cell == null) return null;
-        
-        try {
-            if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
-                return cell.getDateCellValue();
-            } else if (cell.getCellType() == CellType.STRING) {
-                String dateStr = cell.getStringCellValue().trim();
-                // Try to parse common date formats
-                return parseDateString(dateStr);
-            }
-        } catch (Exception e) {
-            log.warn("Error parsing date from cell: {}", e.getMessage());
-        }
-        return null;
+    /**
+     * Hash dos campos preenchidos por applyRow
+     */
+    private static String fingerprint(MemberEntity member) {
+        return HashUtil.toMD5(Stream.of(
+                member.getNome(), member.getTipoCadastro(), member.getNascimento(), member.getEstadoCivil(),
+                member.getCep(), member.getLogradouro(), member.getNumero(), member.getComplemento(),
+                member.getBairro(), member.getCidade(), member.getEstado(), member.getTelefone(),
+                member.getComercial(), member.getCelular(), member.getEmail(), member.getGrupos(),
+                member.getIntercessor(), member.getLgpd()
+        ).map(String::valueOf).collect(Collectors.joining("\u001F")));
     }
 
-    private Boolean getCellValueAsBoolean(Cell cell) {
-        if (cell == null) return null;
-        
-        switch (cell.getCellType()) {
-            case BOOLEAN:
-                return cell.getBooleanCellValue();
-            case STRING:
-                String value = cell.getStringCellValue().trim().toLowerCase();
-                return value.equals("true") || value.equals("sim") || value.equals("casado") || value.equals("1");
-            case NUMERIC:
-                return cell.getNumericCellValue() == 1;
-            default:
-                return null;
-        }
+    private static String value(String[] values, int index) {
+        if (index >= values.length || values[index] == null) return null;
+        String value = values[index].trim();
+        return value.isEmpty() ? null : value;
     }
 
-    private Date parseDateString(String dateStr) {
-        // Try common date formats
-        try {
-            return java.sql.Date.valueOf(LocalDate.parse(dateStr));
-        } catch (Exception e) {
-            // Try other formats if needed
-            return null;
+    private static boolean isBlankRow(String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (value(values, i) != null) return false;
         }
+        return true;
+    }
+
+    private static String emailKey(String email) {
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
     }
 
     private LocalDate parseDate(String dateStr) {
@@ -561,11 +381,7 @@ public class MemberImportService {
             
             // Create header row
             Row headerRow = sheet.createRow(0);
-            String[] headers = {
-                "Nome", "Tipo Cadastro", "Data Nascimento", "Estado Civil",
-                "CEP", "Logradouro", "Número", "Complemento", "Bairro", "Cidade", "Estado",
-                "Telefone", "Comercial", "Celular", "Email", "Grupos"
-            };
+            String[] headers = TEMPLATE_HEADERS;
             
             CellStyle headerStyle = workbook.createCellStyle();
             Font font = workbook.createFont();
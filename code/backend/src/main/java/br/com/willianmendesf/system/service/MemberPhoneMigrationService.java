@@ -0,0 +1,77 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.repository.MemberRepository;
+import br.com.willianmendesf.system.repository.projection.MemberPhonesProjection;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Preenche as colunas de telefone normalizado (register.*_normalizado) dos membros
+ * cadastrados antes delas existirem, em uma transação por lote de BATCH_SIZE.
+ * Novos registros são mantidos por MemberEntity.beforeSave()
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberPhoneMigrationService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNormalizedPhones() {
+        PageRequest page = PageRequest.of(0, BATCH_SIZE);
+        long afterId = 0L;
+        int updated = 0;
+
+        List<MemberPhonesProjection> batch;
+        do {
+            batch = memberRepository.findPendingPhoneNormalization(afterId, page);
+            // Uma transação por lote: o que já foi gravado fica mesmo se um lote posterior falhar
+            List<MemberPhonesProjection> current = batch;
+            updated += transactionTemplate.execute(status -> normalize(current));
+            if (!batch.isEmpty()) afterId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == BATCH_SIZE);
+
+        if (updated > 0) {
+            log.info("Normalized phone columns backfilled for {} members", updated);
+        }
+    }
+
+    private int normalize(List<MemberPhonesProjection> batch) {
+        int updated = 0;
+        for (MemberPhonesProjection member : batch) {
+            String telefone = PhoneUtil.normalize(member.getTelefone());
+            String celular = PhoneUtil.normalize(member.getCelular());
+            String comercial = PhoneUtil.normalize(member.getComercial());
+            String telefonePai = PhoneUtil.normalize(member.getTelefonePai());
+            String telefoneMae = PhoneUtil.normalize(member.getTelefoneMae());
+
+            // Só telefones que o normalizador recusa (sem dígitos) estão pendentes: nada a gravar
+            boolean changed = fills(member.getTelefoneNormalizado(), telefone)
+                    || fills(member.getCelularNormalizado(), celular)
+                    || fills(member.getComercialNormalizado(), comercial)
+                    || fills(member.getTelefonePaiNormalizado(), telefonePai)
+                    || fills(member.getTelefoneMaeNormalizado(), telefoneMae);
+            if (!changed) continue;
+
+            updated += memberRepository.updateNormalizedPhones(member.getId(),
+                    telefone, celular, comercial, telefonePai, telefoneMae);
+        }
+        return updated;
+    }
+
+    private static boolean fills(String current, String normalized) {
+        return current == null && normalized != null;
+    }
+}
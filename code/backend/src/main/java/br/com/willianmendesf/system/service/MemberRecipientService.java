@@ -0,0 +1,73 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.model.dto.MemberRecipientDTO;
+import br.com.willianmendesf.system.repository.MemberRepository;
+import br.com.willianmendesf.system.repository.projection.MemberRecipientProjection;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Resolve os destinatários de grupos de membros (volunteer_groups) para envios WhatsApp.
+ * Os membros são lidos em lotes por id, só com as colunas necessárias, e entregues ao
+ * consumidor lote a lote, sem montar a lista completa nem carregar MemberEntity
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberRecipientService {
+
+    public static final int CHUNK_SIZE = 200;
+
+    private final MemberRepository memberRepository;
+
+    /**
+     * Percorre os membros dos grupos informados, normalizando o celular para o formato WhatsApp
+     * e descartando telefones inválidos ou repetidos (membro em mais de um grupo, celular compartilhado)
+     * @param consumer recebe cada lote de até CHUNK_SIZE destinatários
+     * @return total de destinatários entregues ao consumidor
+     */
+    public int forEachRecipientChunk(Collection<Long> groupIds, Consumer<List<MemberRecipientDTO>> consumer) {
+        if (groupIds == null || groupIds.isEmpty()) return 0;
+
+        Set<String> seen = new HashSet<>();
+        PageRequest page = PageRequest.of(0, CHUNK_SIZE);
+        long afterId = 0L;
+        int total = 0;
+        int skipped = 0;
+
+        List<MemberRecipientProjection> rows;
+        do {
+            rows = memberRepository.findRecipientsByGroupIds(groupIds, afterId, page);
+            List<MemberRecipientDTO> chunk = new ArrayList<>(rows.size());
+
+            for (MemberRecipientProjection row : rows) {
+                String phone = PhoneUtil.formatForWhatsApp(row.getCelular());
+                if (phone == null || !seen.add(phone)) {
+                    skipped++;
+                    continue;
+                }
+                chunk.add(new MemberRecipientDTO(phone, row.getNome(), row.getGrupo()));
+            }
+
+            if (!rows.isEmpty()) afterId = rows.get(rows.size() - 1).getId();
+            if (!chunk.isEmpty()) {
+                total += chunk.size();
+                consumer.accept(chunk);
+            }
+        } while (rows.size() == CHUNK_SIZE);
+
+        log.info("Member groups {} resolved to {} recipients ({} invalid or duplicated phones skipped)",
+                groupIds, total, skipped);
+        return total;
+    }
+}
@@ -1,29 +1,55 @@
 package br.com.willianmendesf.system.service;
 
+import br.com.willianmendesf.system.cache.FamilyGraphCache;
 import br.com.willianmendesf.system.exception.MembersException;
 import br.com.willianmendesf.system.exception.UserException;
 import br.com.willianmendesf.system.model.dto.GroupEnrollmentDTO;
+import br.com.willianmendesf.system.model.dto.MemberBulkPatchItemDTO;
+import br.com.willianmendesf.system.model.dto.MemberBulkPatchResultDTO;
+import br.com.willianmendesf.system.model.dto.MemberBulkPatchRowDTO;
 import br.com.willianmendesf.system.model.dto.MemberDTO;
+import br.com.willianmendesf.system.model.dto.MemberFamilyDTO;
+import br.com.willianmendesf.system.model.dto.MemberFilterDTO;
+import br.com.willianmendesf.system.model.dto.MemberPatchDTO;
+import br.com.willianmendesf.system.model.dto.PageResponseDTO;
 import br.com.willianmendesf.system.model.dto.MemberSpouseDTO;
 import br.com.willianmendesf.system.model.dto.MemberChildrenDTO;
 import br.com.willianmendesf.system.model.dto.UpdateMemberDTO;
 import br.com.willianmendesf.system.model.entity.GroupEntity;
 import br.com.willianmendesf.system.model.entity.MemberEntity;
+import br.com.willianmendesf.system.model.entity.MemberTombstoneEntity;
+import br.com.willianmendesf.system.model.enums.BulkPatchStatus;
 import br.com.willianmendesf.system.repository.GroupEnrollmentRepository;
 import br.com.willianmendesf.system.repository.GroupRepository;
 import br.com.willianmendesf.system.repository.MemberRepository;
+import br.com.willianmendesf.system.repository.MemberTombstoneRepository;
+import br.com.willianmendesf.system.repository.specification.MemberSpecifications;
 import br.com.willianmendesf.system.service.utils.PhoneUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
 
@@ -35,19 +61,18 @@ public class MemberService {
     private final MemberRepository repository;
     private final GroupRepository groupRepository;
     private final GroupEnrollmentRepository enrollmentRepository;
+    private final FamilyGraphCache familyGraph;
+    private final MemberTombstoneRepository tombstoneRepository;
+
+    private static final int ENROLLMENT_BATCH_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BULK_PATCH_SIZE = 1000;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "nome", "nascimento", "idade", "cidade", "tipoCadastro");
 
     public List<MemberDTO> getAll() {
         try {
             log.info("Getting all members from database");
-            return repository.findAllWithGroups().stream()
-                    .map(member -> {
-                        List<GroupEnrollmentDTO> enrollments = enrollmentRepository.findByMemberId(member.getId())
-                                .stream()
-                                .map(GroupEnrollmentDTO::new)
-                                .collect(Collectors.toList());
-                        return new MemberDTO(member, enrollments);
-                    })
-                    .collect(java.util.stream.Collectors.toList());
+            return toDTOsWithEnrollments(repository.findAllWithGroups());
         } catch (Exception e) {
             throw new MembersException("Error to return values" ,e);
         }
@@ -56,20 +81,75 @@ public class MemberService {
     public List<MemberDTO> getAllByGroupId(Long groupId) {
         try {
             log.info("Getting all members by group ID: {}", groupId);
-            return repository.findByGroupsId(groupId).stream()
-                    .map(member -> {
-                        List<GroupEnrollmentDTO> enrollments = enrollmentRepository.findByMemberId(member.getId())
-                                .stream()
-                                .map(GroupEnrollmentDTO::new)
-                                .collect(Collectors.toList());
-                        return new MemberDTO(member, enrollments);
-                    })
-                    .collect(java.util.stream.Collectors.toList());
+            return toDTOsWithEnrollments(repository.findByGroupsId(groupId));
         } catch (Exception e) {
             throw new MembersException("Error to return members by group", e);
         }
     }
 
+    /**
+     * Listagem paginada com filtros no banco. Ordenação aceita apenas os campos de SORTABLE_FIELDS
+     * (padrão: nome) e sempre desempata por id para páginas estáveis
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<MemberDTO> getPage(MemberFilterDTO filter, Pageable pageable) {
+        try {
+            Pageable request = sanitizePageable(pageable);
+            log.info("Getting members page {} (size {}) with filter {}", request.getPageNumber(), request.getPageSize(), filter);
+
+            Page<MemberEntity> page = repository.findAll(MemberSpecifications.withFilter(filter), request);
+            if (page.hasContent()) {
+                // Inicializa os grupos dos membros da página no mesmo contexto de persistência
+                repository.findAllWithGroupsByIdIn(page.getContent().stream().map(MemberEntity::getId).toList());
+            }
+            return new PageResponseDTO<>(toDTOsWithEnrollments(page.getContent()), page.getNumber(),
+                    page.getSize(), page.getTotalElements(), page.getTotalPages());
+        } catch (Exception e) {
+            throw new MembersException("Error to return members page", e);
+        }
+    }
+
+    private Pageable sanitizePageable(Pageable pageable) {
+        int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+        List<Sort.Order> orders = pageable.getSort().stream()
+                .filter(order -> SORTABLE_FIELDS.contains(order.getProperty()))
+                .flatMap(this::toEntityOrders)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (orders.isEmpty()) orders.add(Sort.Order.asc("nome"));
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("id"))) orders.add(Sort.Order.asc("id"));
+        return PageRequest.of(pageable.getPageNumber(), size, Sort.by(orders));
+    }
+
+    /**
+     * A idade exibida (MemberDTO) é calculada de nascimento, então ordenar por idade é ordenar por nascimento
+     * no sentido inverso; a coluna idade só desempata os membros sem data de nascimento (que ficam no fim)
+     */
+    private Stream<Sort.Order> toEntityOrders(Sort.Order order) {
+        if (!order.getProperty().equals("idade")) return Stream.of(order);
+        Sort.Direction reverse = order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Stream.of(new Sort.Order(reverse, "nascimento").nullsLast(), new Sort.Order(order.getDirection(), "idade"));
+    }
+
+    /**
+     * Converte a lista em DTOs buscando as inscrições de todos os membros em lotes de ENROLLMENT_BATCH_SIZE,
+     * em vez de uma consulta por membro
+     */
+    List<MemberDTO> toDTOsWithEnrollments(List<MemberEntity> members) {
+        Map<Long, List<GroupEnrollmentDTO>> enrollmentsByMember = new HashMap<>();
+        List<Long> ids = members.stream().map(MemberEntity::getId).collect(Collectors.toList());
+
+        for (int start = 0; start < ids.size(); start += ENROLLMENT_BATCH_SIZE) {
+            List<Long> batch = ids.subList(start, Math.min(start + ENROLLMENT_BATCH_SIZE, ids.size()));
+            enrollmentRepository.findByMemberIdIn(batch).forEach(enrollment ->
+                    enrollmentsByMember.computeIfAbsent(enrollment.getMember().getId(), id -> new ArrayList<>())
+                            .add(new GroupEnrollmentDTO(enrollment)));
+        }
+
+        return members.stream()
+                .map(member -> new MemberDTO(member, enrollmentsByMember.getOrDefault(member.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
     public MemberDTO getById(Long id) {
         try {
             log.info("Getting member by ID: {}", id);
@@ -92,31 +172,14 @@ public class MemberService {
      * Used for relationship preview in member forms
      */
     public MemberSpouseDTO getSpouseByTelefone(String telefone) {
-        try {
-            log.info("Getting spouse by telefone: {}", telefone);
-            // Sanitiza e valida o telefone
-            String sanitizedPhone = PhoneUtil.sanitizeAndValidate(telefone);
-            if (sanitizedPhone == null) {
-                log.warn("Invalid phone format for spouse lookup: {}", telefone);
-                return null;
-            }
-            
-            MemberEntity entity = repository.findByConjugueTelefone(sanitizedPhone);
-            
-            if (entity == null) {
-                return null;
-            }
-            
-            MemberSpouseDTO spouse = new MemberSpouseDTO();
-            spouse.setNomeCompleto(entity.getNome());
-            spouse.setFotoUrl(entity.getFotoUrl());
-            spouse.setCelular(entity.getCelular());
-            
-            return spouse;
-        } catch (Exception e) {
-            log.error("Error getting spouse by telefone: {}", telefone, e);
+        log.debug("Getting spouse by telefone: {}", telefone);
+        // Sanitiza e valida o telefone
+        String sanitizedPhone = PhoneUtil.sanitizeAndValidate(telefone);
+        if (sanitizedPhone == null) {
+            log.warn("Invalid phone format for spouse lookup: {}", telefone);
             return null;
         }
+        return toRelativeDTO(familyGraph.findOwner(sanitizedPhone));
     }
 
     /**
@@ -124,31 +187,14 @@ public class MemberService {
      * Used for relationship preview in member forms for children
      */
     public MemberSpouseDTO getParentByTelefone(String telefone) {
-        try {
-            log.info("Getting parent by telefone: {}", telefone);
-            // Sanitiza e valida o telefone
-            String sanitizedPhone = PhoneUtil.sanitizeAndValidate(telefone);
-            if (sanitizedPhone == null) {
-                log.warn("Invalid phone format for parent lookup: {}", telefone);
-                return null;
-            }
-            
-            MemberEntity entity = repository.findByParentTelefone(sanitizedPhone);
-            
-            if (entity == null) {
-                return null;
-            }
-            
-            MemberSpouseDTO parent = new MemberSpouseDTO();
-            parent.setNomeCompleto(entity.getNome());
-            parent.setFotoUrl(entity.getFotoUrl());
-            parent.setCelular(entity.getCelular());
-            
-            return parent;
-        } catch (Exception e) {
-            log.error("Error getting parent by telefone: {}", telefone, e);
+        log.debug("Getting parent by telefone: {}", telefone);
+        // Sanitiza e valida o telefone
+        String sanitizedPhone = PhoneUtil.sanitizeAndValidate(telefone);
+        if (sanitizedPhone == null) {
+            log.warn("Invalid phone format for parent lookup: {}", telefone);
             return null;
         }
+        return toRelativeDTO(familyGraph.findParent(sanitizedPhone));
     }
 
     /**
@@ -156,34 +202,44 @@ public class MemberService {
      * Used for relationship preview in member forms - shows children of a parent
      */
     public List<MemberChildrenDTO> getChildrenByTelefone(String telefone) {
-        try {
-            log.info("Getting children by telefone: {}", telefone);
-            // Sanitiza e valida o telefone
-            String sanitizedPhone = PhoneUtil.sanitizeAndValidate(telefone);
-            if (sanitizedPhone == null) {
-                log.warn("Invalid phone format for children lookup: {}", telefone);
-                return new java.util.ArrayList<>();
-            }
-            
-            List<MemberEntity> children = repository.findChildrenByTelefone(sanitizedPhone);
-            
-            if (children == null || children.isEmpty()) {
-                return new java.util.ArrayList<>();
-            }
-            
-            return children.stream()
-                    .map(child -> {
-                        MemberChildrenDTO dto = new MemberChildrenDTO();
-                        dto.setNomeCompleto(child.getNome());
-                        dto.setFotoUrl(child.getFotoUrl());
-                        dto.setCelular(child.getCelular());
-                        return dto;
-                    })
-                    .collect(java.util.stream.Collectors.toList());
-        } catch (Exception e) {
-            log.error("Error getting children by telefone: {}", telefone, e);
-            return new java.util.ArrayList<>();
+        log.debug("Getting children by telefone: {}", telefone);
+        // Sanitiza e valida o telefone
+        String sanitizedPhone = PhoneUtil.sanitizeAndValidate(telefone);
+        if (sanitizedPhone == null) {
+            log.warn("Invalid phone format for children lookup: {}", telefone);
+            return new ArrayList<>();
         }
+        return familyGraph.findChildren(sanitizedPhone).stream()
+                .map(this::toChildDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Família completa do membro a partir do grafo em memória (cônjuge, pai, mãe e filhos)
+     */
+    public MemberFamilyDTO getFamily(Long id) {
+        FamilyGraphCache.Node member = familyGraph.getMember(id);
+        if (member == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Member not found for ID: " + id);
+        }
+
+        MemberFamilyDTO family = new MemberFamilyDTO();
+        family.setSpouse(toRelativeDTO(familyGraph.findOwner(member.getConjugueTelefone())));
+        family.setFather(toRelativeDTO(familyGraph.findParent(member.getTelefonePai())));
+        family.setMother(toRelativeDTO(familyGraph.findParent(member.getTelefoneMae())));
+        family.setChildren(familyGraph.findChildrenOf(member).stream()
+                .map(this::toChildDTO)
+                .collect(Collectors.toList()));
+        return family;
+    }
+
+    private MemberSpouseDTO toRelativeDTO(FamilyGraphCache.Node node) {
+        if (node == null) return null;
+        return new MemberSpouseDTO(node.getNome(), node.getFotoUrl(), node.getCelularOriginal());
+    }
+
+    private MemberChildrenDTO toChildDTO(FamilyGraphCache.Node node) {
+        return new MemberChildrenDTO(node.getNome(), node.getFotoUrl(), node.getCelularOriginal());
     }
 
     public void create(MemberEntity member) {
@@ -279,11 +335,133 @@ public class MemberService {
         }
     }
 
+    /**
+     * Edição em massa numa única transação: os membros são carregados numa consulta (com grupos),
+     * os grupos referenciados são resolvidos uma vez e as alterações vão ao banco num único flush,
+     * com os UPDATEs agrupados em lotes JDBC. Linhas cuja versão não confere com a atual são recusadas
+     * como CONFLICT sem impedir as demais
+     */
+    @Transactional
+    public MemberBulkPatchResultDTO bulkPatch(List<MemberBulkPatchItemDTO> items) {
+        if (items == null || items.isEmpty())
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nenhum membro informado");
+        if (items.size() > MAX_BULK_PATCH_SIZE)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Máximo de " + MAX_BULK_PATCH_SIZE + " membros por requisição");
+
+        Set<Long> ids = items.stream().map(MemberBulkPatchItemDTO::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, MemberEntity> members = new HashMap<>();
+        repository.findAllWithGroupsByIdIn(ids).forEach(member -> members.put(member.getId(), member));
+
+        Set<Long> groupIds = items.stream()
+                .map(MemberBulkPatchItemDTO::getChanges)
+                .filter(Objects::nonNull)
+                .flatMap(changes -> Stream.of(changes.getGroupIds(), changes.getAddGroupIds(), changes.getRemoveGroupIds()))
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, GroupEntity> groups = new HashMap<>();
+        groupRepository.findAllById(groupIds).forEach(group -> groups.put(group.getId(), group));
+
+        MemberBulkPatchResultDTO result = new MemberBulkPatchResultDTO();
+        // id do membro -> linha do resultado (ids repetidos são recusados abaixo)
+        Map<Long, MemberBulkPatchRowDTO> updated = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (MemberBulkPatchItemDTO item : items) {
+            MemberBulkPatchRowDTO row = new MemberBulkPatchRowDTO(item.getId(), BulkPatchStatus.INVALID, null, null);
+            result.getResults().add(row);
+
+            if (item.getId() == null || item.getChanges() == null) {
+                row.setError("id e changes são obrigatórios");
+                continue;
+            }
+            if (!seen.add(item.getId())) {
+                row.setError("Membro repetido na requisição");
+                continue;
+            }
+            MemberEntity member = members.get(item.getId());
+            if (member == null) {
+                row.setStatus(BulkPatchStatus.NOT_FOUND);
+                continue;
+            }
+            row.setVersion(member.getVersion());
+            if (item.getVersion() == null || !item.getVersion().equals(member.getVersion())) {
+                row.setStatus(BulkPatchStatus.CONFLICT);
+                row.setError("Membro alterado por outra transação; recarregue e tente novamente");
+                continue;
+            }
+            String invalid = applyPatch(member, item.getChanges(), groups);
+            if (invalid != null) {
+                row.setError(invalid);
+                continue;
+            }
+            row.setStatus(BulkPatchStatus.UPDATED);
+            updated.put(member.getId(), row);
+        }
+
+        try {
+            repository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Alteração concorrente entre a leitura e o flush: nada é gravado
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Membro " + e.getIdentifier() + " foi alterado por outra transação; nenhuma alteração foi gravada", e);
+        }
+        updated.forEach((id, row) -> row.setVersion(members.get(id).getVersion()));
+
+        for (MemberBulkPatchRowDTO row : result.getResults()) {
+            switch (row.getStatus()) {
+                case UPDATED -> result.setUpdatedCount(result.getUpdatedCount() + 1);
+                case CONFLICT -> result.setConflictCount(result.getConflictCount() + 1);
+                default -> result.setErrorCount(result.getErrorCount() + 1);
+            }
+        }
+        log.info("Bulk member patch: {} updated, {} conflicts, {} errors",
+                result.getUpdatedCount(), result.getConflictCount(), result.getErrorCount());
+        return result;
+    }
+
+    /**
+     * Aplica as alterações informadas (campos não nulos); valida os grupos antes de alterar o membro
+     * @return mensagem de erro, ou null se aplicado
+     */
+    private String applyPatch(MemberEntity member, MemberPatchDTO changes, Map<Long, GroupEntity> groups) {
+        for (List<Long> ids : Arrays.asList(changes.getGroupIds(), changes.getAddGroupIds(), changes.getRemoveGroupIds())) {
+            if (ids == null) continue;
+            for (Long groupId : ids) {
+                if (groupId != null && !groups.containsKey(groupId)) return "Grupo não encontrado: " + groupId;
+            }
+        }
+
+        if (changes.getTipoCadastro() != null) {
+            String tipoCadastro = changes.getTipoCadastro().trim();
+            member.setTipoCadastro(tipoCadastro.isEmpty() ? null : tipoCadastro);
+        }
+        if (changes.getIntercessor() != null) member.setIntercessor(changes.getIntercessor());
+        if (changes.getComungante() != null) member.setComungante(changes.getComungante());
+        if (changes.getChild() != null) member.setChild(changes.getChild());
+        if (changes.getHasChildren() != null) member.setHasChildren(changes.getHasChildren());
+        if (changes.getEstadoCivil() != null) member.setEstadoCivil(changes.getEstadoCivil());
+        if (changes.getCidade() != null && !changes.getCidade().trim().isEmpty()) member.setCidade(changes.getCidade().trim());
+        if (changes.getEstado() != null && !changes.getEstado().trim().isEmpty()) member.setEstado(changes.getEstado().trim());
+
+        if (changes.getGroupIds() != null || changes.getAddGroupIds() != null || changes.getRemoveGroupIds() != null) {
+            Set<GroupEntity> memberGroups = changes.getGroupIds() != null ? new HashSet<>() : new HashSet<>(member.getGroups());
+            if (changes.getGroupIds() != null) changes.getGroupIds().stream().filter(Objects::nonNull).map(groups::get).forEach(memberGroups::add);
+            if (changes.getAddGroupIds() != null) changes.getAddGroupIds().stream().filter(Objects::nonNull).map(groups::get).forEach(memberGroups::add);
+            if (changes.getRemoveGroupIds() != null) changes.getRemoveGroupIds().stream().filter(Objects::nonNull).map(groups::get).forEach(memberGroups::remove);
+            if (!memberGroups.equals(member.getGroups())) member.setGroups(memberGroups);
+        }
+        return null;
+    }
+
+    @Transactional
     public void delete(Long id) {
         try {
             log.info("Deleting member by ID: {}", id);
             if (!repository.existsById(id)) throw new RuntimeException("Not found with this ID: " + id);
             repository.deleteById(id);
+            tombstoneRepository.save(new MemberTombstoneEntity(id, LocalDateTime.now()));
         } catch (Exception e) {
             throw new MembersException("Error to delete appointment with ID: " + id, e);
         }
@@ -0,0 +1,157 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.cache.VisitorDuplicateIndex;
+import br.com.willianmendesf.system.model.dto.VisitorDTO;
+import br.com.willianmendesf.system.model.dto.VisitorMergeResultDTO;
+import br.com.willianmendesf.system.model.entity.VisitorEntity;
+import br.com.willianmendesf.system.repository.VisitorRepository;
+import br.com.willianmendesf.system.service.storage.StorageService;
+import br.com.willianmendesf.system.service.utils.NameFingerprint;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Revisão e unificação dos visitantes que o VisitorDuplicateIndex reconhece como a mesma pessoa.
+ * A unificação só recebe grupos já revisados e confirmados pelo telefone; cada grupo roda em sua própria
+ * transação e só remove cadastros repetidos no mesmo dia (acompanhantes passam para o registro mantido).
+ * Nomes e demais dados dos registros não são alterados
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VisitorDuplicateService {
+
+    private static final Comparator<VisitorEntity> VISIT_ORDER =
+            Comparator.comparing(VisitorEntity::getDataVisita).thenComparing(VisitorEntity::getId);
+
+    private final VisitorRepository repository;
+    private final VisitorDuplicateIndex duplicateIndex;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Grupos de registros da mesma pessoa, do mais antigo para o mais recente
+     */
+    @Transactional(readOnly = true)
+    public List<List<VisitorDTO>> getDuplicateGroups() {
+        List<List<Long>> groups = duplicateIndex.findGroups();
+        Map<Long, VisitorEntity> visitors = repository.findAllById(groups.stream().flatMap(List::stream).toList())
+                .stream()
+                .collect(Collectors.toMap(VisitorEntity::getId, Function.identity()));
+
+        List<List<VisitorDTO>> result = new ArrayList<>(groups.size());
+        for (List<Long> group : groups) {
+            List<VisitorDTO> dtos = group.stream()
+                    .map(visitors::get)
+                    .filter(Objects::nonNull)
+                    .sorted(VISIT_ORDER)
+                    .map(VisitorDTO::new)
+                    .toList();
+            if (dtos.size() > 1) result.add(dtos);
+        }
+        return result;
+    }
+
+    /**
+     * Unifica os grupos revisados. Cada grupo precisa ter a mesma chave de nome e o mesmo telefone em todos
+     * os registros; grupos só por nome (telefone diferente ou ausente) são recusados e ficam para ajuste manual
+     */
+    public VisitorMergeResultDTO mergeDuplicates(List<List<Long>> groups) {
+        if (groups == null || groups.isEmpty())
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe os grupos revisados em groups");
+        log.info("Merging {} reviewed duplicate visitor groups", groups.size());
+
+        VisitorMergeResultDTO result = new VisitorMergeResultDTO();
+        for (List<Long> group : groups) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> merge(group, result));
+                result.setGroupCount(result.getGroupCount() + 1);
+            } catch (Exception e) {
+                log.warn("Visitors {} not merged: {}", group, e.getMessage());
+                result.setErrorCount(result.getErrorCount() + 1);
+                result.getErrors().add(String.format("Visitantes %s: %s", group, e.getMessage()));
+            }
+        }
+
+        log.info("Duplicate visitors merged: {} groups, {} removed, {} refused",
+                result.getGroupCount(), result.getRemovedCount(), result.getErrorCount());
+        return result;
+    }
+
+    private void merge(List<Long> group, VisitorMergeResultDTO result) {
+        Set<Long> ids = new HashSet<>(group != null ? group : List.of());
+        if (ids.size() < 2) throw new IllegalArgumentException("o grupo precisa de ao menos 2 visitantes");
+
+        List<VisitorEntity> visits = new ArrayList<>(repository.findAllById(ids));
+        if (visits.size() != ids.size()) throw new IllegalArgumentException("visitante não encontrado");
+        visits.sort(VISIT_ORDER);
+
+        Set<String> names = visits.stream().map(visit -> NameFingerprint.of(visit.getNomeCompleto())).collect(Collectors.toSet());
+        if (names.size() != 1) throw new IllegalArgumentException("os nomes não correspondem à mesma pessoa");
+        Set<String> phones = visits.stream().map(visit -> PhoneUtil.normalize(visit.getTelefone())).collect(Collectors.toSet());
+        if (phones.size() != 1 || phones.contains(null))
+            throw new IllegalArgumentException("telefones diferentes ou ausentes; unifique manualmente");
+
+        Map<LocalDate, List<VisitorEntity>> keptByDate = new HashMap<>();
+        for (VisitorEntity visit : visits) {
+            List<VisitorEntity> sameDay = keptByDate.computeIfAbsent(visit.getDataVisita(), date -> new ArrayList<>());
+            // Registros do mesmo check-in (titular e acompanhantes) são pessoas diferentes da mesma família
+            VisitorEntity kept = sameDay.stream()
+                    .filter(other -> !checkIn(other).equals(checkIn(visit)))
+                    .findFirst()
+                    .orElse(null);
+            if (kept == null) {
+                sameDay.add(visit);
+            } else {
+                remove(visit, kept);
+                result.setRemovedCount(result.getRemovedCount() + 1);
+            }
+        }
+    }
+
+    /**
+     * Id do check-in a que o registro pertence: o do titular (o próprio, quando não é acompanhante)
+     */
+    private static Long checkIn(VisitorEntity visit) {
+        return visit.getMainVisitor() != null ? visit.getMainVisitor().getId() : visit.getId();
+    }
+
+    /**
+     * Cadastro repetido no mesmo dia (outro check-in): acompanhantes e foto passam para o registro mantido
+     */
+    private void remove(VisitorEntity duplicate, VisitorEntity kept) {
+        if (duplicate.getAccompanyingVisitors() != null) {
+            VisitorEntity titular = kept.getMainVisitor() != null ? kept.getMainVisitor() : kept;
+            duplicate.getAccompanyingVisitors().forEach(companion -> companion.setMainVisitor(titular));
+            // Sem isso o cascade da coleção removeria os acompanhantes junto com o duplicado
+            duplicate.getAccompanyingVisitors().clear();
+        }
+
+        if (duplicate.getFotoUrl() != null && !duplicate.getFotoUrl().isEmpty()) {
+            if (kept.getFotoUrl() == null || kept.getFotoUrl().isEmpty()) {
+                kept.setFotoUrl(duplicate.getFotoUrl());
+            } else {
+                storageService.deleteFile(duplicate.getFotoUrl());
+            }
+        }
+        repository.delete(duplicate);
+    }
+}
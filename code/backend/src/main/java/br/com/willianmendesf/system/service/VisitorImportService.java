@@ -3,436 +3,260 @@ package br.com.willianmendesf.system.service;
 import br.com.willianmendesf.system.model.dto.ImportResultDTO;
 import br.com.willianmendesf.system.model.entity.VisitorEntity;
 import br.com.willianmendesf.system.repository.VisitorRepository;
+import br.com.willianmendesf.system.service.utils.ExcelRowReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.ByteArrayOutputStream;
 import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VisitorImportService {
 
+    /**
+     * Linhas gravadas por transação: um erro de banco descarta só o lote, não a importação inteira
+     */
+    public static final int BATCH_SIZE = 500;
+
     private final VisitorRepository repository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public ImportResultDTO importVisitors(MultipartFile file) {
+    /**
+     * Importa um arquivo .xlsx ou .csv já salvo em disco (ver ImportJobService)
+     * @param progress recebe o resultado parcial após cada lote gravado
+     */
+    public ImportResultDTO importFile(Path file, String fileName, Consumer<ImportResultDTO> progress) throws IOException {
         ImportResultDTO result = new ImportResultDTO();
-        
-        if (file == null || file.isEmpty()) {
-            result.addError(0, "Arquivo vazio ou não fornecido");
-            return result;
+        VisitorBatch batch = new VisitorBatch(result, progress);
+        if (ImportJobService.isExcel(fileName)) {
+            result.setTotalRows(ExcelRowReader.read(file, batch::add));
+        } else {
+            result.setTotalRows(readCsv(file, batch::add));
         }
+        batch.flush();
 
-        String fileName = file.getOriginalFilename();
-        if (fileName == null) {
-            result.addError(0, "Nome do arquivo não disponível");
-            return result;
-        }
-
-        try {
-            if (fileName.endsWith(".xlsx") || fileName.endsWith(".xls")) {
-                return importFromExcel(file, result);
-            } else if (fileName.endsWith(".csv")) {
-                return importFromCsv(file, result);
-            } else {
-                result.addError(0, "Formato de arquivo não suportado. Use .xlsx ou .csv");
-                return result;
-            }
-        } catch (Exception e) {
-            log.error("Error importing visitors from file: {}", fileName, e);
-            result.addError(0, "Erro ao processar arquivo: " + e.getMessage());
-            return result;
-        }
-    }
-
-    private ImportResultDTO importFromExcel(MultipartFile file, ImportResultDTO result) throws Exception {
-        List<VisitorEntity> visitorsToSave = new ArrayList<>();
-        
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-            result.setTotalRows(sheet.getLastRowNum());
-            
-            // Skip header row (row 0)
-            for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-                Row row = sheet.getRow(rowIndex);
-                if (row == null) continue;
-                
-                // Skip completely empty rows
-                boolean hasData = false;
-                for (int cellIndex = 0; cellIndex < row.getLastCellNum(); cellIndex++) {
-                    Cell cell = row.getCell(cellIndex);
-                    if (cell != null) {
-                        String value = getCellValueAsString(cell);
-                        if (value != null && !value.trim().isEmpty()) {
-                            hasData = true;
-                            break;
-                        }
-                    }
-                }
-                if (!hasData) continue;
-                
-                try {
-                    VisitorEntity visitor = parseVisitorFromExcelRow(row, rowIndex + 1, result);
-                    if (visitor != null) {
-                        visitorsToSave.add(visitor);
-                    }
-                } catch (Exception e) {
-                    result.addError(rowIndex + 1, "Erro ao processar linha: " + e.getMessage());
-                    result.setErrorCount(result.getErrorCount() + 1);
-                }
-            }
-        }
-        
-        // Batch save all visitors
-        if (!visitorsToSave.isEmpty()) {
-            try {
-                List<VisitorEntity> savedVisitors = repository.saveAll(visitorsToSave);
-                result.setSuccessCount(savedVisitors.size());
-                result.setCreatedCount(savedVisitors.size());
-            } catch (Exception e) {
-                log.error("Error saving visitors batch: {}", e.getMessage(), e);
-                result.addError(0, "Erro ao salvar visitantes: " + e.getMessage());
-            }
-        }
-        
+        log.info("Visitor import {}: {} rows, {} created, {} errors", fileName,
+                result.getTotalRows(), result.getCreatedCount(), result.getErrorCount());
         return result;
     }
 
-    private ImportResultDTO importFromCsv(MultipartFile file, ImportResultDTO result) throws Exception {
-        List<VisitorEntity> visitorsToSave = new ArrayList<>();
-        
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), "UTF-8"))) {
+    /**
+     * Lê o CSV linha a linha, ignorando o cabeçalho e linhas em branco
+     * @return quantidade de linhas de dados lidas
+     */
+    private int readCsv(Path file, ExcelRowReader.RowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
             String line;
-            int rowNumber = 0;
+            int rowNumber = 1;
             
             // Skip header row
             reader.readLine();
-            rowNumber++;
             
             while ((line = reader.readLine()) != null) {
                 rowNumber++;
-                try {
-                    String[] values = parseCsvLine(line);
-                    VisitorEntity visitor = parseVisitorFromCsvRow(values, rowNumber, result);
-                    if (visitor != null) {
-                        visitorsToSave.add(visitor);
-                    }
-                } catch (Exception e) {
-                    result.addError(rowNumber, "Erro ao processar linha: " + e.getMessage());
-                    result.setErrorCount(result.getErrorCount() + 1);
-                }
+                if (line.isBlank()) continue;
+                handler.row(rowNumber, parseCsvLine(line));
             }
             
-            result.setTotalRows(rowNumber - 1); // Exclude header
+            return rowNumber - 1; // Exclude header
         }
-        
-        // Batch save all visitors
-        if (!visitorsToSave.isEmpty()) {
+    }
+
+    /**
+     * Acumula as linhas lidas e grava a cada BATCH_SIZE, cada lote na sua própria transação
+     */
+    private final class VisitorBatch {
+        private final ImportResultDTO result;
+        private final Consumer<ImportResultDTO> progress;
+        private final List<ImportRow> rows = new ArrayList<>(BATCH_SIZE);
+        private int rowsRead;
+
+        private VisitorBatch(ImportResultDTO result, Consumer<ImportResultDTO> progress) {
+            this.result = result;
+            this.progress = progress;
+        }
+
+        private void add(int rowNumber, String[] values) {
+            rowsRead++;
+            if (isBlankRow(values)) return;
+            rows.add(new ImportRow(rowNumber, values));
+            if (rows.size() >= BATCH_SIZE) flush();
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) return;
+            List<ImportRow> chunk = List.copyOf(rows);
+            rows.clear();
+
+            List<ImportRow> failed = new ArrayList<>();
             try {
-                List<VisitorEntity> savedVisitors = repository.saveAll(visitorsToSave);
-                result.setSuccessCount(savedVisitors.size());
-                result.setCreatedCount(savedVisitors.size());
+                Integer saved = transactionTemplate.execute(status -> saveChunk(chunk, failed));
+                result.setCreatedCount(result.getCreatedCount() + saved);
+                result.setSuccessCount(result.getSuccessCount() + saved);
+                result.setErrorCount(result.getErrorCount() + failed.size());
             } catch (Exception e) {
-                log.error("Error saving visitors batch: {}", e.getMessage(), e);
-                result.addError(0, "Erro ao salvar visitantes: " + e.getMessage());
+                log.error("Error saving visitors batch (rows {}-{}): {}",
+                        chunk.get(0).number(), chunk.get(chunk.size() - 1).number(), e.getMessage(), e);
+                result.addError(chunk.get(0).number(), String.format("Erro ao salvar visitantes das linhas %d a %d: %s",
+                        chunk.get(0).number(), chunk.get(chunk.size() - 1).number(), e.getMessage()));
+                result.setErrorCount(result.getErrorCount() + chunk.size());
             }
+            result.setTotalRows(rowsRead);
+            progress.accept(result);
         }
-        
-        return result;
-    }
 
-    private VisitorEntity parseVisitorFromExcelRow(Row row, int rowNumber, ImportResultDTO result) {
-        try {
-            String nomeCompleto = getCellValueAsString(row.getCell(0));
-            if (nomeCompleto == null || nomeCompleto.trim().isEmpty()) {
-                result.addError(rowNumber, "Nome Completo é obrigatório");
-                return null;
-            }
-            
-            VisitorEntity visitor = new VisitorEntity();
-            visitor.setNomeCompleto(nomeCompleto.trim());
-            
-            // Data Visita (coluna 1)
-            Cell dataVisitaCell = row.getCell(1);
-            LocalDate dataVisita = getCellValueAsLocalDate(dataVisitaCell);
-            if (dataVisita != null) {
-                visitor.setDataVisita(dataVisita);
-            } else {
-                // Se não conseguiu extrair a data, tenta como string
-                String dataVisitaStr = getCellValueAsString(dataVisitaCell);
-                if (dataVisitaStr != null && !dataVisitaStr.trim().isEmpty()) {
-                    dataVisita = parseDate(dataVisitaStr);
-                    if (dataVisita != null) {
-                        visitor.setDataVisita(dataVisita);
-                    } else {
-                        log.warn("Invalid date format at row {}: {}, using current date", rowNumber, dataVisitaStr);
-                        visitor.setDataVisita(LocalDate.now());
-                    }
-                } else {
-                    visitor.setDataVisita(LocalDate.now());
-                }
-            }
-            
-            // Telefone (coluna 2)
-            String telefone = getCellValueAsString(row.getCell(2));
-            if (telefone != null && !telefone.trim().isEmpty()) {
-                visitor.setTelefone(telefone.trim());
+        private int saveChunk(List<ImportRow> chunk, List<ImportRow> failed) {
+            failed.clear();
+            // Visitantes principais referenciados no lote, numa única consulta
+            Set<Long> mainVisitorIds = new HashSet<>();
+            for (ImportRow row : chunk) {
+                Long id = parseId(value(row.values(), 9));
+                if (id != null) mainVisitorIds.add(id);
             }
-            
-            // Já Frequenta Igreja? (coluna 3)
-            String jaFrequentaIgreja = getCellValueAsString(row.getCell(3));
-            if (jaFrequentaIgreja != null && !jaFrequentaIgreja.trim().isEmpty()) {
-                visitor.setJaFrequentaIgreja(jaFrequentaIgreja.trim());
-            }
-            
-            String nomeIgreja = getCellValueAsString(row.getCell(4));
-            if (nomeIgreja != null && !nomeIgreja.trim().isEmpty()) {
-                visitor.setNomeIgreja(nomeIgreja.trim());
-            }
-            
-            String procuraIgreja = getCellValueAsString(row.getCell(5));
-            if (procuraIgreja != null && !procuraIgreja.trim().isEmpty()) {
-                visitor.setProcuraIgreja(procuraIgreja.trim());
-            }
-            
-            Boolean eDeSP = getCellValueAsBoolean(row.getCell(6));
-            visitor.setEDeSP(eDeSP != null ? eDeSP : false);
-            
-            if (Boolean.FALSE.equals(visitor.getEDeSP())) {
-                String estado = getCellValueAsString(row.getCell(7));
-                if (estado != null && !estado.trim().isEmpty()) {
-                    visitor.setEstado(estado.trim().toUpperCase());
-                }
-            }
-            
-            // Idade (coluna 8)
-            Cell ageCell = row.getCell(8);
-            if (ageCell != null) {
-                try {
-                    String ageStr = getCellValueAsString(ageCell);
-                    if (ageStr != null && !ageStr.trim().isEmpty()) {
-                        visitor.setAge(Integer.parseInt(ageStr.trim()));
-                    }
-                } catch (NumberFormatException e) {
-                    log.warn("Invalid age format at row {}: {}", rowNumber, getCellValueAsString(ageCell));
-                }
-            }
-            
-            // ID Visitante Principal (coluna 9)
-            Cell mainVisitorIdCell = row.getCell(9);
-            if (mainVisitorIdCell != null) {
+            Map<Long, VisitorEntity> mainVisitors = new HashMap<>();
+            repository.findAllById(mainVisitorIds).forEach(visitor -> mainVisitors.put(visitor.getId(), visitor));
+
+            List<VisitorEntity> visitors = new ArrayList<>(chunk.size());
+            for (ImportRow row : chunk) {
                 try {
-                    String mainVisitorIdStr = getCellValueAsString(mainVisitorIdCell);
-                    if (mainVisitorIdStr != null && !mainVisitorIdStr.trim().isEmpty()) {
-                        Long mainVisitorId = Long.parseLong(mainVisitorIdStr.trim());
-                        VisitorEntity mainVisitor = repository.findById(mainVisitorId).orElse(null);
-                        if (mainVisitor != null) {
-                            visitor.setMainVisitor(mainVisitor);
-                        } else {
-                            result.addError(rowNumber, "Visitante principal com ID " + mainVisitorId + " não encontrado");
-                        }
+                    VisitorEntity visitor = parseVisitor(row.values(), row.number(), mainVisitors, result);
+                    if (visitor != null) {
+                        visitors.add(visitor);
+                    } else {
+                        failed.add(row);
                     }
-                } catch (NumberFormatException e) {
-                    log.warn("Invalid mainVisitorId format at row {}: {}", rowNumber, getCellValueAsString(mainVisitorIdCell));
+                } catch (Exception e) {
+                    log.error("Error parsing row {}: {}", row.number(), e.getMessage(), e);
+                    result.addError(row.number(), "Erro ao processar: " + e.getMessage());
+                    failed.add(row);
                 }
             }
-            
-            // Vínculo (coluna 10)
-            String relationship = getCellValueAsString(row.getCell(10));
-            if (relationship != null && !relationship.trim().isEmpty()) {
-                visitor.setRelationship(relationship.trim());
-            }
-            
-            return visitor;
-        } catch (Exception e) {
-            log.error("Error parsing row {}: {}", rowNumber, e.getMessage(), e);
-            result.addError(rowNumber, "Erro ao processar: " + e.getMessage());
-            return null;
+
+            repository.saveAll(visitors);
+            repository.flush();
+            return visitors.size();
         }
     }
 
-    private VisitorEntity parseVisitorFromCsvRow(String[] values, int rowNumber, ImportResultDTO result) {
-        try {
-            String nomeCompleto = (values.length > 0 && values[0] != null) ? values[0].trim() : "";
-            if (nomeCompleto.isEmpty()) {
-                result.addError(rowNumber, "Nome Completo é obrigatório");
-                return null;
+    private record ImportRow(int number, String[] values) { }
+
+    /**
+     * Monta o visitante a partir de uma linha (planilha ou CSV); null quando falta o nome
+     */
+    private VisitorEntity parseVisitor(String[] values, int rowNumber, Map<Long, VisitorEntity> mainVisitors,
+                                       ImportResultDTO result) {
+        String nomeCompleto = value(values, 0);
+        if (nomeCompleto == null) {
+            result.addError(rowNumber, "Nome Completo é obrigatório");
+            return null;
+        }
+
+        VisitorEntity visitor = new VisitorEntity();
+        visitor.setNomeCompleto(nomeCompleto);
+
+        // Data Visita (coluna 1)
+        String dataVisitaStr = value(values, 1);
+        LocalDate dataVisita = dataVisitaStr != null ? parseDate(dataVisitaStr) : null;
+        if (dataVisitaStr != null && dataVisita == null) {
+            log.warn("Invalid date format at row {}: {}, using current date", rowNumber, dataVisitaStr);
+        }
+        visitor.setDataVisita(dataVisita != null ? dataVisita : LocalDate.now());
+
+        // Telefone (coluna 2)
+        String telefone = value(values, 2);
+        if (telefone != null) visitor.setTelefone(telefone);
+
+        // Já Frequenta Igreja? (coluna 3)
+        String jaFrequentaIgreja = value(values, 3);
+        if (jaFrequentaIgreja != null) visitor.setJaFrequentaIgreja(jaFrequentaIgreja);
+
+        // Nome da Igreja (coluna 4)
+        String nomeIgreja = value(values, 4);
+        if (nomeIgreja != null) visitor.setNomeIgreja(nomeIgreja);
+
+        // Está à Procura de Igreja? (coluna 5)
+        String procuraIgreja = value(values, 5);
+        if (procuraIgreja != null) visitor.setProcuraIgreja(procuraIgreja);
+
+        // É de SP? (coluna 6)
+        String eDeSPStr = value(values, 6);
+        boolean eDeSP = eDeSPStr != null && List.of("sim", "true", "1").contains(eDeSPStr.toLowerCase());
+        visitor.setEDeSP(eDeSP);
+
+        // Estado (coluna 7) - apenas se não for SP
+        if (!eDeSP) {
+            String estado = value(values, 7);
+            if (estado != null) visitor.setEstado(estado.toUpperCase());
+        }
+
+        // Idade (coluna 8)
+        String age = value(values, 8);
+        if (age != null) {
+            try {
+                visitor.setAge(Integer.parseInt(age));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid age format at row {}: {}", rowNumber, age);
             }
-            
-            VisitorEntity visitor = new VisitorEntity();
-            visitor.setNomeCompleto(nomeCompleto);
-            
-            // Data Visita (coluna 1)
-            String dataVisitaStr = (values.length > 1 && values[1] != null) ? values[1].trim() : "";
-            if (!dataVisitaStr.isEmpty()) {
-                LocalDate dataVisita = parseDate(dataVisitaStr);
-                if (dataVisita != null) {
-                    visitor.setDataVisita(dataVisita);
-                } else {
-                    log.warn("Invalid date format at row {}: {}, using current date", rowNumber, dataVisitaStr);
-                    visitor.setDataVisita(LocalDate.now());
-                }
+        }
+
+        // ID Visitante Principal (coluna 9)
+        String mainVisitorIdStr = value(values, 9);
+        if (mainVisitorIdStr != null) {
+            Long mainVisitorId = parseId(mainVisitorIdStr);
+            if (mainVisitorId == null) {
+                log.warn("Invalid mainVisitorId format at row {}: {}", rowNumber, mainVisitorIdStr);
+            } else if (mainVisitors.containsKey(mainVisitorId)) {
+                visitor.setMainVisitor(mainVisitors.get(mainVisitorId));
             } else {
-                visitor.setDataVisita(LocalDate.now());
-            }
-            
-            // Telefone (coluna 2)
-            String telefone = (values.length > 2 && values[2] != null) ? values[2].trim() : "";
-            if (!telefone.isEmpty()) {
-                visitor.setTelefone(telefone);
-            }
-            
-            // Já Frequenta Igreja? (coluna 3)
-            String jaFrequentaIgreja = (values.length > 3 && values[3] != null) ? values[3].trim() : "";
-            if (!jaFrequentaIgreja.isEmpty()) {
-                visitor.setJaFrequentaIgreja(jaFrequentaIgreja);
-            }
-            
-            // Nome da Igreja (coluna 4)
-            String nomeIgreja = (values.length > 4 && values[4] != null) ? values[4].trim() : "";
-            if (!nomeIgreja.isEmpty()) {
-                visitor.setNomeIgreja(nomeIgreja);
-            }
-            
-            // Está à Procura de Igreja? (coluna 5)
-            String procuraIgreja = (values.length > 5 && values[5] != null) ? values[5].trim() : "";
-            if (!procuraIgreja.isEmpty()) {
-                visitor.setProcuraIgreja(procuraIgreja);
+                result.addError(rowNumber, "Visitante principal com ID " + mainVisitorId + " não encontrado");
             }
-            
-            // É de SP? (coluna 6)
-            String eDeSPStr = (values.length > 6 && values[6] != null) ? values[6].trim().toLowerCase() : "";
-            Boolean eDeSP = eDeSPStr.equals("sim") || eDeSPStr.equals("true") || eDeSPStr.equals("1");
-            visitor.setEDeSP(eDeSP);
-            
-            // Estado (coluna 7) - apenas se não for SP
-            if (!eDeSP) {
-                String estado = (values.length > 7 && values[7] != null) ? values[7].trim() : "";
-                if (!estado.isEmpty()) {
-                    visitor.setEstado(estado.toUpperCase());
-                }
-            }
-            
-            // Idade (coluna 8)
-            if (values.length > 8 && values[8] != null && !values[8].trim().isEmpty()) {
-                try {
-                    visitor.setAge(Integer.parseInt(values[8].trim()));
-                } catch (NumberFormatException e) {
-                    log.warn("Invalid age format at row {}: {}", rowNumber, values[8]);
-                }
-            }
-            
-            // ID Visitante Principal (coluna 9)
-            if (values.length > 9 && values[9] != null && !values[9].trim().isEmpty()) {
-                try {
-                    Long mainVisitorId = Long.parseLong(values[9].trim());
-                    VisitorEntity mainVisitor = repository.findById(mainVisitorId).orElse(null);
-                    if (mainVisitor != null) {
-                        visitor.setMainVisitor(mainVisitor);
-                    } else {
-                        result.addError(rowNumber, "Visitante principal com ID " + mainVisitorId + " não encontrado");
-                    }
-                } catch (NumberFormatException e) {
-                    log.warn("Invalid mainVisitorId format at row {}: {}", rowNumber, values[9]);
-                }
-            }
-            
-            // Vínculo (coluna 10)
-            if (values.length > 10 && values[10] != null && !values[10].trim().isEmpty()) {
-                visitor.setRelationship(values[10].trim());
-            }
-            
-            return visitor;
-        } catch (Exception e) {
-            log.error("Error parsing CSV row {}: {}", rowNumber, e.getMessage(), e);
-            result.addError(rowNumber, "Erro ao processar: " + e.getMessage());
-            return null;
         }
+
+        // Vínculo (coluna 10)
+        String relationship = value(values, 10);
+        if (relationship != null) visitor.setRelationship(relationship);
+
+        return visitor;
     }
 
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) return null;
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                } else {
-                    double numValue = cell.getNumericCellValue();
-                    if (numValue == (long) numValue) {
-                        return String.valueOf((long) numValue);
-                    } else {
-                        return String.valueOf(numValue);
-                    }
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return null;
+    private static Long parseId(String value) {
+        if (value == null) return null;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
-    private Boolean getCellValueAsBoolean(Cell cell) {
-        if (cell == null) return null;
-        
-        switch (cell.getCellType()) {
-            case BOOLEAN:
-                return cell.getBooleanCellValue();
-            case STRING:
-                String value = cell.getStringCellValue().trim().toLowerCase();
-                return value.equals("true") || value.equals("sim") || value.equals("1");
-            case NUMERIC:
-                return cell.getNumericCellValue() == 1;
-            default:
-                return null;
-        }
+    private static String value(String[] values, int index) {
+        if (index >= values.length || values[index] == null) return null;
+        String value = values[index].trim();
+        return value.isEmpty() ? null : value;
     }
 
-    private LocalDate getCellValueAsLocalDate(Cell cell) {
-        if (cell == null) return null;
-        
-        try {
-            switch (cell.getCellType()) {
-                case NUMERIC:
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        // Excel stores dates as numeric values, convert directly
-                        Date dateValue = cell.getDateCellValue();
-                        if (dateValue != null) {
-                            return dateValue.toInstant()
-                                .atZone(java.time.ZoneId.systemDefault())
-                                .toLocalDate();
-                        }
-                    }
-                    break;
-                case STRING:
-                    String dateStr = cell.getStringCellValue().trim();
-                    if (!dateStr.isEmpty()) {
-                        return parseDate(dateStr);
-                    }
-                    break;
-                default:
-                    break;
-            }
-        } catch (Exception e) {
-            log.warn("Error extracting date from cell: {}", e.getMessage());
+    private static boolean isBlankRow(String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (value(values, i) != null) return false;
         }
-        return null;
+        return true;
     }
 
     private LocalDate parseDate(String dateStr) {
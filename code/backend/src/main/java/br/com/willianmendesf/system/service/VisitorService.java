@@ -1,5 +1,7 @@
 package br.com.willianmendesf.system.service;
 
+import br.com.willianmendesf.system.cache.PersonSearchCache;
+import br.com.willianmendesf.system.cache.VisitorStatsCache;
 import br.com.willianmendesf.system.exception.MembersException;
 import br.com.willianmendesf.system.model.dto.AccompanyingVisitorDTO;
 import br.com.willianmendesf.system.model.dto.CreateVisitorDTO;
@@ -16,9 +18,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,51 +33,16 @@ public class VisitorService {
 
     private final VisitorRepository repository;
     private final StorageService storageService;
+    private final PersonSearchCache personSearchCache;
+    private final VisitorStatsCache visitorStatsCache;
 
     @Transactional
     public VisitorDTO create(CreateVisitorDTO dto) {
         try {
-            log.info("Creating visitor: {}", dto.getNomeCompleto());
-            log.info("Visitor data - eDeSP: {}, estado: {}", dto.getEDeSP(), dto.getEstado());
-            
-            if (dto.getNomeCompleto() == null || dto.getNomeCompleto().trim().isEmpty()) {
-                throw new MembersException("Nome completo é obrigatório");
-            }
-            
-            VisitorEntity entity = new VisitorEntity();
-            entity.setNomeCompleto(dto.getNomeCompleto().trim());
-            entity.setDataVisita(dto.getDataVisita() != null ? dto.getDataVisita() : LocalDate.now());
-            entity.setTelefone(dto.getTelefone());
-            entity.setJaFrequentaIgreja(dto.getJaFrequentaIgreja());
-            entity.setNomeIgreja(dto.getNomeIgreja());
-            entity.setProcuraIgreja(dto.getProcuraIgreja());
-            
-            // SEMPRE salvar eDeSP (mesmo se null, usar default true)
-            Boolean eDeSPValue = dto.getEDeSP() != null ? dto.getEDeSP() : true;
-            entity.setEDeSP(eDeSPValue);
-            log.info("Setting eDeSP to: {}", eDeSPValue);
-            
-            // Se não é de SP, validar e salvar estado
-            if (Boolean.FALSE.equals(eDeSPValue)) {
-                if (dto.getEstado() != null && !dto.getEstado().trim().isEmpty()) {
-                    entity.setEstado(dto.getEstado().trim().toUpperCase());
-                    log.info("Setting estado to: {}", entity.getEstado());
-                } else {
-                    entity.setEstado(null);
-                    log.info("Estado is null or empty, setting to null");
-                }
-            } else {
-                // Se for SP, sempre limpar estado
-                entity.setEstado(null);
-                log.info("eDeSP is true, clearing estado");
-            }
-            
+            VisitorEntity entity = toEntity(dto);
             VisitorEntity saved = repository.save(entity);
-            log.info("Visitor created with ID: {}, eDeSP: {}, estado: {}", saved.getId(), saved.getEDeSP(), saved.getEstado());
-            
-            VisitorDTO result = new VisitorDTO(saved);
-            log.info("Returning VisitorDTO - eDeSP: {}, estado: {}", result.getEDeSP(), result.getEstado());
-            return result;
+            log.info("Visitor created with ID: {}", saved.getId());
+            return new VisitorDTO(saved);
         } catch (MembersException e) {
             throw e;
         } catch (Exception e) {
@@ -81,76 +51,32 @@ public class VisitorService {
         }
     }
 
+    /**
+     * Cadastro do visitante principal com os acompanhantes. Tudo é validado e montado antes de gravar,
+     * e os registros vão para o banco num único saveAll: com ids em bloco (pooled) o Hibernate
+     * envia os INSERTs em lote (hibernate.jdbc.batch_size), sem reler o principal
+     */
     @Transactional
     public VisitorDTO createGroup(VisitorGroupRequestDTO dto) {
         try {
-            log.info("Creating visitor group with main visitor: {}", dto.getMainVisitor() != null ? dto.getMainVisitor().getNomeCompleto() : "null");
-            
             if (dto.getMainVisitor() == null) {
                 throw new MembersException("Visitante principal é obrigatório");
             }
-            
-            // Passo 1: Salvar o visitante principal
-            VisitorDTO mainVisitorDTO = create(dto.getMainVisitor());
-            VisitorEntity mainVisitorEntity = repository.findById(mainVisitorDTO.getId())
-                    .orElseThrow(() -> new MembersException("Erro ao recuperar visitante principal salvo"));
-            
-            log.info("Main visitor created with ID: {}", mainVisitorEntity.getId());
-            
-            // Passo 2: Salvar os acompanhantes
-            if (dto.getAccompanyingVisitors() != null && !dto.getAccompanyingVisitors().isEmpty()) {
+
+            VisitorEntity mainVisitor = toEntity(dto.getMainVisitor());
+            List<VisitorEntity> visitors = new ArrayList<>();
+            visitors.add(mainVisitor);
+            if (dto.getAccompanyingVisitors() != null) {
                 for (AccompanyingVisitorDTO accompanyingDTO : dto.getAccompanyingVisitors()) {
-                    if (accompanyingDTO.getNomeCompleto() == null || accompanyingDTO.getNomeCompleto().trim().isEmpty()) {
-                        log.warn("Skipping accompanying visitor with empty name");
-                        continue;
-                    }
-                    
-                    VisitorEntity accompanyingEntity = new VisitorEntity();
-                    accompanyingEntity.setNomeCompleto(accompanyingDTO.getNomeCompleto().trim());
-                    accompanyingEntity.setAge(accompanyingDTO.getAge());
-                    accompanyingEntity.setDataVisita(mainVisitorEntity.getDataVisita()); // Copiar data do principal
-                    accompanyingEntity.setMainVisitor(mainVisitorEntity);
-                    accompanyingEntity.setRelationship(accompanyingDTO.getRelationship());
-                    
-                    // Usar dados do DTO se fornecidos, caso contrário copiar do principal
-                    accompanyingEntity.setTelefone(accompanyingDTO.getTelefone() != null && !accompanyingDTO.getTelefone().trim().isEmpty() 
-                        ? accompanyingDTO.getTelefone().trim() 
-                        : mainVisitorEntity.getTelefone());
-                    accompanyingEntity.setJaFrequentaIgreja(accompanyingDTO.getJaFrequentaIgreja() != null && !accompanyingDTO.getJaFrequentaIgreja().trim().isEmpty() 
-                        ? accompanyingDTO.getJaFrequentaIgreja() 
-                        : mainVisitorEntity.getJaFrequentaIgreja());
-                    accompanyingEntity.setNomeIgreja(accompanyingDTO.getNomeIgreja() != null && !accompanyingDTO.getNomeIgreja().trim().isEmpty() 
-                        ? accompanyingDTO.getNomeIgreja().trim() 
-                        : mainVisitorEntity.getNomeIgreja());
-                    accompanyingEntity.setProcuraIgreja(accompanyingDTO.getProcuraIgreja() != null && !accompanyingDTO.getProcuraIgreja().trim().isEmpty() 
-                        ? accompanyingDTO.getProcuraIgreja() 
-                        : mainVisitorEntity.getProcuraIgreja());
-                    
-                    // Para eDeSP e estado, usar do DTO se fornecido, senão copiar do principal
-                    Boolean accompanyingEDeSP = accompanyingDTO.getEDeSP() != null 
-                        ? accompanyingDTO.getEDeSP() 
-                        : mainVisitorEntity.getEDeSP();
-                    accompanyingEntity.setEDeSP(accompanyingEDeSP);
-                    
-                    if (Boolean.FALSE.equals(accompanyingEDeSP)) {
-                        // Se não é de SP, usar estado do DTO ou do principal
-                        String accompanyingEstado = accompanyingDTO.getEstado() != null && !accompanyingDTO.getEstado().trim().isEmpty() 
-                            ? accompanyingDTO.getEstado().trim().toUpperCase() 
-                            : (mainVisitorEntity.getEstado() != null ? mainVisitorEntity.getEstado() : null);
-                        accompanyingEntity.setEstado(accompanyingEstado);
-                    } else {
-                        // Se for SP, sempre limpar estado
-                        accompanyingEntity.setEstado(null);
-                    }
-                    
-                    VisitorEntity savedAccompanying = repository.save(accompanyingEntity);
-                    log.info("Accompanying visitor created with ID: {}, name: {}, relationship: {}", 
-                            savedAccompanying.getId(), savedAccompanying.getNomeCompleto(), savedAccompanying.getRelationship());
+                    // Linhas sem nome (campos em branco no formulário) são ignoradas
+                    if (isBlank(accompanyingDTO.getNomeCompleto())) continue;
+                    visitors.add(toAccompanyingEntity(accompanyingDTO, mainVisitor));
                 }
             }
-            
-            log.info("Visitor group created successfully. Main visitor ID: {}", mainVisitorEntity.getId());
-            return mainVisitorDTO;
+
+            repository.saveAll(visitors);
+            log.info("Visitor group created: main visitor ID {}, {} accompanying", mainVisitor.getId(), visitors.size() - 1);
+            return new VisitorDTO(mainVisitor);
         } catch (MembersException e) {
             throw e;
         } catch (Exception e) {
@@ -159,6 +85,61 @@ public class VisitorService {
         }
     }
 
+    private VisitorEntity toEntity(CreateVisitorDTO dto) {
+        if (isBlank(dto.getNomeCompleto())) {
+            throw new MembersException("Nome completo é obrigatório");
+        }
+
+        VisitorEntity entity = new VisitorEntity();
+        entity.setNomeCompleto(dto.getNomeCompleto().trim());
+        entity.setDataVisita(dto.getDataVisita() != null ? dto.getDataVisita() : LocalDate.now());
+        entity.setTelefone(dto.getTelefone());
+        entity.setJaFrequentaIgreja(dto.getJaFrequentaIgreja());
+        entity.setNomeIgreja(dto.getNomeIgreja());
+        entity.setProcuraIgreja(dto.getProcuraIgreja());
+
+        // SEMPRE salvar eDeSP (mesmo se null, usar default true)
+        Boolean eDeSPValue = dto.getEDeSP() != null ? dto.getEDeSP() : true;
+        entity.setEDeSP(eDeSPValue);
+
+        // Estado só para quem não é de SP
+        entity.setEstado(Boolean.FALSE.equals(eDeSPValue) && !isBlank(dto.getEstado())
+                ? dto.getEstado().trim().toUpperCase()
+                : null);
+        return entity;
+    }
+
+    /**
+     * Acompanhante com a data do principal; campos não informados são copiados do principal
+     */
+    private VisitorEntity toAccompanyingEntity(AccompanyingVisitorDTO dto, VisitorEntity mainVisitor) {
+        VisitorEntity entity = new VisitorEntity();
+        entity.setNomeCompleto(dto.getNomeCompleto().trim());
+        entity.setAge(dto.getAge());
+        entity.setDataVisita(mainVisitor.getDataVisita());
+        entity.setMainVisitor(mainVisitor);
+        entity.setRelationship(dto.getRelationship());
+
+        entity.setTelefone(!isBlank(dto.getTelefone()) ? dto.getTelefone().trim() : mainVisitor.getTelefone());
+        entity.setJaFrequentaIgreja(!isBlank(dto.getJaFrequentaIgreja()) ? dto.getJaFrequentaIgreja() : mainVisitor.getJaFrequentaIgreja());
+        entity.setNomeIgreja(!isBlank(dto.getNomeIgreja()) ? dto.getNomeIgreja().trim() : mainVisitor.getNomeIgreja());
+        entity.setProcuraIgreja(!isBlank(dto.getProcuraIgreja()) ? dto.getProcuraIgreja() : mainVisitor.getProcuraIgreja());
+
+        Boolean eDeSP = dto.getEDeSP() != null ? dto.getEDeSP() : mainVisitor.getEDeSP();
+        entity.setEDeSP(eDeSP);
+        if (Boolean.FALSE.equals(eDeSP)) {
+            // Se não é de SP, usar estado do DTO ou do principal
+            entity.setEstado(!isBlank(dto.getEstado()) ? dto.getEstado().trim().toUpperCase() : mainVisitor.getEstado());
+        } else {
+            entity.setEstado(null);
+        }
+        return entity;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
     public List<VisitorDTO> getAll() {
         try {
             log.info("Getting all visitors");
@@ -307,7 +288,13 @@ public class VisitorService {
             if (nome == null || nome.trim().isEmpty()) {
                 return getAll();
             }
-            return repository.findByNomeCompletoContainingIgnoreCase(nome.trim()).stream()
+            // Índice em memória sem acentos no lugar do LIKE '%nome%' (que não usa índice)
+            List<Long> ids = personSearchCache.searchVisitorIds(nome, Integer.MAX_VALUE);
+            Map<Long, VisitorEntity> visitors = repository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(VisitorEntity::getId, Function.identity()));
+            return ids.stream()
+                    .map(visitors::get)
+                    .filter(Objects::nonNull)
                     .map(VisitorDTO::new)
                     .collect(Collectors.toList());
         } catch (Exception e) {
@@ -317,47 +304,9 @@ public class VisitorService {
     }
 
     public List<VisitorStatsDTO> getSundayVisitorsStats() {
-        try {
-            log.info("Getting Sunday visitors statistics");
-            
-            // Buscar todas as visitas
-            List<VisitorEntity> allVisitors = repository.findAll();
-            log.info("Total visitors found: {}", allVisitors.size());
-            
-            // Filtrar apenas datas que são domingos e agrupar por data
-            List<VisitorStatsDTO> stats = allVisitors.stream()
-                    .filter(v -> {
-                        if (v.getDataVisita() == null) {
-                            return false;
-                        }
-                        boolean isSunday = v.getDataVisita().getDayOfWeek() == DayOfWeek.SUNDAY;
-                        if (isSunday) {
-                            log.debug("Found Sunday visitor: {} on {}", v.getNomeCompleto(), v.getDataVisita());
-                        }
-                        return isSunday;
-                    })
-                    .collect(Collectors.groupingBy(
-                            VisitorEntity::getDataVisita,
-                            Collectors.counting()
-                    ))
-                    .entrySet().stream()
-                    .map(entry -> {
-                        VisitorStatsDTO stat = new VisitorStatsDTO(entry.getKey(), entry.getValue());
-                        log.debug("Sunday stat: {} - {} visitors", stat.getData(), stat.getQuantidade());
-                        return stat;
-                    })
-                    .sorted((a, b) -> a.getData().compareTo(b.getData())) // Ordenar por data (mais antiga primeiro)
-                    .collect(Collectors.toList());
-            
-            log.info("Found {} Sundays with visitors", stats.size());
-            if (stats.isEmpty()) {
-                log.warn("No Sunday visitors found. Make sure visitors have dataVisita set to a Sunday.");
-            }
-            return stats;
-        } catch (Exception e) {
-            log.error("Error getting Sunday visitors statistics", e);
-            throw new MembersException("Erro ao buscar estatísticas de domingos", e);
-        }
+        List<VisitorStatsDTO> stats = visitorStatsCache.getSundays();
+        log.info("Found {} Sundays with visitors", stats.size());
+        return stats;
     }
 
     public List<VisitorStatsDTO> getVisitorStatsByDateRange(LocalDate startDate, LocalDate endDate) {
@@ -386,27 +335,7 @@ public class VisitorService {
             }
             
             log.info("Getting visitor statistics from {} to {}", actualStartDate, actualEndDate);
-            
-            // Buscar visitantes no intervalo
-            List<VisitorEntity> visitorsInRange = repository.findByDataVisitaBetween(actualStartDate, actualEndDate);
-            log.info("Found {} visitors in date range", visitorsInRange.size());
-            
-            // Agrupar por dataVisita e contar (apenas datas que têm visitantes)
-            List<VisitorStatsDTO> stats = visitorsInRange.stream()
-                    .filter(v -> v.getDataVisita() != null)
-                    .collect(Collectors.groupingBy(
-                            VisitorEntity::getDataVisita,
-                            Collectors.counting()
-                    ))
-                    .entrySet().stream()
-                    .map(entry -> {
-                        VisitorStatsDTO stat = new VisitorStatsDTO(entry.getKey(), entry.getValue());
-                        log.debug("Stat: {} - {} visitors", stat.getData(), stat.getQuantidade());
-                        return stat;
-                    })
-                    .sorted((a, b) -> a.getData().compareTo(b.getData())) // Ordenar por data (mais antiga primeiro)
-                    .collect(Collectors.toList());
-            
+            List<VisitorStatsDTO> stats = visitorStatsCache.getRange(actualStartDate, actualEndDate);
             log.info("Found {} dates with visitors in range", stats.size());
             return stats;
         } catch (MembersException e) {
@@ -0,0 +1,249 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.model.WhatsappSender;
+import br.com.willianmendesf.system.model.dto.WhatsappBulkJobDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappBulkRecipientResultDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappBulkRequestDTO;
+import br.com.willianmendesf.system.model.enums.JobStatus;
+import br.com.willianmendesf.system.model.enums.TaskStatus;
+import br.com.willianmendesf.system.model.enums.WhatsappMediaType;
+import br.com.willianmendesf.system.service.utils.MessageTemplate;
+import br.com.willianmendesf.system.service.utils.MessagesUtils;
+import br.com.willianmendesf.system.service.utils.PhoneUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Envio em massa de mensagens WhatsApp em segundo plano.
+ * A mensagem aceita os placeholders {{telefone}}, {{data}} e {{hora}} (ver MessageTemplate).
+ * A requisição retorna imediatamente um jobId; os destinatários são processados pelo pool
+ * "whatsappBulkExecutor" respeitando um limite global de mensagens por minuto
+ */
+@Slf4j
+@Service
+public class WhatsappBulkService {
+
+    private static final int FINISHED_JOB_RETENTION_MINUTES = 60;
+
+    private final WhatsappMessageService whatsapp;
+    private final ConfigService configService;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<String, BulkJob> jobs = new ConcurrentHashMap<>();
+
+    // Próximo instante (System.nanoTime) em que um envio é permitido, compartilhado por todos os jobs
+    private long nextSendSlot = 0L;
+
+    public WhatsappBulkService(WhatsappMessageService whatsapp,
+                               ConfigService configService,
+                               @Qualifier("whatsappBulkExecutor") ThreadPoolTaskExecutor executor) {
+        this.whatsapp = whatsapp;
+        this.configService = configService;
+        this.executor = executor;
+    }
+
+    public WhatsappBulkJobDTO submit(WhatsappBulkRequestDTO request) {
+        if (request == null || request.getMessage() == null || request.getMessage().isBlank())
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Message is required");
+        if (request.getRecipients() == null || request.getRecipients().isEmpty())
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one recipient is required");
+
+        Set<String> unique = new LinkedHashSet<>();
+        for (String recipient : request.getRecipients()) {
+            if (recipient != null && !recipient.isBlank()) unique.add(recipient.trim());
+        }
+        if (unique.isEmpty())
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one recipient is required");
+
+        Resource media = isNull(request.getMedia()) || request.getMedia().isBlank()
+                ? null : loadMedia(request.getMedia());
+
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), request, new ArrayList<>(unique), media);
+        jobs.put(job.id, job);
+
+        int workers = Math.min(executor.getMaxPoolSize(), job.recipients.size());
+        int submitted = 0;
+        try {
+            for (; submitted < workers; submitted++) {
+                executor.execute(() -> runWorker(job));
+            }
+        } catch (TaskRejectedException e) {
+            if (submitted == 0) {
+                jobs.remove(job.id);
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Bulk send queue is full, try again later");
+            }
+            log.warn("Bulk job {} started with {} of {} workers: {}", job.id, submitted, workers, e.getMessage());
+        }
+
+        log.info("Bulk job {} queued: {} recipients, {} workers", job.id, job.recipients.size(), workers);
+        return job.toDTO();
+    }
+
+    public WhatsappBulkJobDTO getJob(String jobId) {
+        BulkJob job = jobs.get(jobId);
+        if (job == null)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Bulk job not found: " + jobId);
+        return job.toDTO();
+    }
+
+    /**
+     * Remove da memória jobs finalizados há mais de uma hora
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void cleanupFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(FINISHED_JOB_RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private Resource loadMedia(String media) {
+        try {
+            return whatsapp.loadMedia(media);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Media file not found or outside the upload directory");
+        }
+    }
+
+    private void runWorker(BulkJob job) {
+        synchronized (job) {
+            if (job.status == JobStatus.QUEUED) job.status = JobStatus.RUNNING;
+        }
+        int index;
+        while ((index = job.cursor.getAndIncrement()) < job.recipients.size()) {
+            sendToRecipient(job, index);
+        }
+        job.finishIfDone();
+    }
+
+    private void sendToRecipient(BulkJob job, int index) {
+        String recipient = job.recipients.get(index);
+        try {
+            String target = normalizeRecipient(recipient);
+            if (target == null)
+                throw new IllegalArgumentException("Invalid recipient");
+
+            WhatsappSender message = new WhatsappSender();
+            message.setPhone(target);
+            message.setMessage(job.renderMessage(recipient));
+            if (job.media != null) {
+                message.setMedia(job.request.getMedia());
+                message.setMediaType(WhatsappMediaType.IMAGE);
+            }
+
+            acquireSendSlot();
+            whatsapp.sendMessage(message, job.media);
+            job.results.set(index, new WhatsappBulkRecipientResultDTO(recipient, TaskStatus.SUCCESS, null));
+            job.successCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.results.set(index, new WhatsappBulkRecipientResultDTO(recipient, TaskStatus.FAILURE, "Interrupted"));
+            job.errorCount.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("Bulk job {}: error sending to {}: {}", job.id, recipient, e.getMessage());
+            job.results.set(index, new WhatsappBulkRecipientResultDTO(recipient, TaskStatus.FAILURE, e.getMessage()));
+            job.errorCount.incrementAndGet();
+        } finally {
+            job.processed.incrementAndGet();
+        }
+    }
+
+    /**
+     * JIDs (contendo @) são usados como estão; telefones são normalizados para o formato WhatsApp
+     */
+    private String normalizeRecipient(String recipient) {
+        if (recipient.contains("@")) return recipient;
+        return PhoneUtil.formatForWhatsApp(recipient);
+    }
+
+    /**
+     * Aguarda o próximo horário livre conforme WHATSAPP_BULK_MESSAGES_PER_MINUTE
+     */
+    private void acquireSendSlot() throws InterruptedException {
+        int perMinute = Math.max(1, configService.getInt("WHATSAPP_BULK_MESSAGES_PER_MINUTE", 60));
+        long interval = TimeUnit.MINUTES.toNanos(1) / perMinute;
+        long wait;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSendSlot);
+            nextSendSlot = slot + interval;
+            wait = slot - now;
+        }
+
+        if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+    }
+
+    private static class BulkJob {
+        private final String id;
+        private final WhatsappBulkRequestDTO request;
+        private final MessageTemplate template;
+        private final List<String> recipients;
+        private final Resource media;
+        private final AtomicReferenceArray<WhatsappBulkRecipientResultDTO> results;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicInteger cursor = new AtomicInteger();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger successCount = new AtomicInteger();
+        private final AtomicInteger errorCount = new AtomicInteger();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile LocalDateTime finishedAt;
+
+        private BulkJob(String id, WhatsappBulkRequestDTO request, List<String> recipients, Resource media) {
+            this.id = id;
+            this.request = request;
+            this.template = MessageTemplate.compile(request.getMessage());
+            this.recipients = recipients;
+            this.media = media;
+            this.results = new AtomicReferenceArray<>(recipients.size());
+        }
+
+        private String renderMessage(String recipient) {
+            if (!template.hasPlaceholders()) return template.getSource();
+
+            Map<String, String> values = new HashMap<>(4);
+            values.put("telefone", recipient);
+            values.put("data", createdAt.format(MessagesUtils.DATE_FORMATTER));
+            values.put("hora", createdAt.format(MessagesUtils.TIME_FORMATTER));
+            return template.render(values);
+        }
+
+        private synchronized void finishIfDone() {
+            if (finishedAt != null || processed.get() < recipients.size()) return;
+            finishedAt = LocalDateTime.now();
+            status = JobStatus.COMPLETED;
+            log.info("Bulk job {} completed: {} sent, {} errors", id, successCount.get(), errorCount.get());
+        }
+
+        private WhatsappBulkJobDTO toDTO() {
+            List<WhatsappBulkRecipientResultDTO> snapshot = new ArrayList<>(recipients.size());
+            for (int i = 0; i < results.length(); i++) {
+                WhatsappBulkRecipientResultDTO result = results.get(i);
+                snapshot.add(result != null ? result
+                        : new WhatsappBulkRecipientResultDTO(recipients.get(i), TaskStatus.PENDING, null));
+            }
+            return new WhatsappBulkJobDTO(id, status, recipients.size(), processed.get(),
+                    successCount.get(), errorCount.get(), createdAt, finishedAt, snapshot);
+        }
+    }
+}
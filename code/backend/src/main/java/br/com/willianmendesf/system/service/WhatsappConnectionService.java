@@ -8,12 +8,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Service
 @RequiredArgsConstructor
@@ -26,9 +30,18 @@ public class WhatsappConnectionService {
     private static final String STATUS_ENDPOINT = "/app/status";
     private static final String RECONNECT_ENDPOINT = "/app/reconnect";
     
+    private static final String STATUS_EVENT = "status";
+    private static final long SSE_TIMEOUT_MS = 30 * 60 * 1000L;
+    // Intervalo que o EventSource espera para reabrir o stream (ex.: após o timeout normal do emitter)
+    private static final long SSE_RECONNECT_MS = 3000L;
+
     private LocalDateTime lastReconnectAttempt = null;
     private boolean isReconnecting = false;
 
+    // Último status obtido pela sonda e assinantes SSE aguardando mudanças
+    private volatile Map<String, Object> lastStatus = null;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
     @PostConstruct
     public void init() {
         log.info("WhatsappConnectionService inicializado");
@@ -41,10 +54,91 @@ public class WhatsappConnectionService {
     }
 
     /**
-     * Verifica o status da conexão WhatsApp
-     * @return Map com status (is_connected, is_logged_in, device_id) ou null em caso de erro
+     * Retorna o último status conhecido da conexão WhatsApp, mantido em memória pela sonda
+     * em segundo plano ({@link #refreshStatus()}). Só consulta a API se ainda não houver status
+     * @return cópia do Map com status (is_connected, is_logged_in, device_id, checked_at)
      */
     public Map<String, Object> getStatus() {
+        Map<String, Object> status = lastStatus;
+        if (status == null) {
+            status = refreshStatus();
+        }
+        return new HashMap<>(status);
+    }
+
+    /**
+     * Sonda única da API (/app/status) compartilhada por todas as telas abertas
+     */
+    @Scheduled(fixedDelayString = "${whatsapp.status.probe-interval-ms:30000}")
+    public void probeStatus() {
+        refreshStatus();
+    }
+
+    /**
+     * Consulta a API, atualiza o status em memória e notifica os assinantes SSE quando a conexão muda
+     */
+    public Map<String, Object> refreshStatus() {
+        Map<String, Object> status = fetchStatus();
+        status.put("checked_at", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+
+        Map<String, Object> previous = lastStatus;
+        lastStatus = status;
+
+        if (previous == null || hasTransition(previous, status)) {
+            log.info("Status da conexão WhatsApp: is_connected={}, is_logged_in={}",
+                status.get("is_connected"), status.get("is_logged_in"));
+            broadcastStatus(status);
+        }
+        return status;
+    }
+
+    /**
+     * Registra um assinante SSE que recebe o status atual e, depois, cada mudança de estado
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        try {
+            Map<String, Object> status = getStatus();
+            status.putAll(getLastReconnectInfo());
+            emitter.send(SseEmitter.event().name(STATUS_EVENT).reconnectTime(SSE_RECONNECT_MS).data(status));
+        } catch (Exception e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private boolean hasTransition(Map<String, Object> previous, Map<String, Object> current) {
+        return !Objects.equals(previous.get("is_connected"), current.get("is_connected"))
+            || !Objects.equals(previous.get("is_logged_in"), current.get("is_logged_in"))
+            || !Objects.equals(previous.get("device_id"), current.get("device_id"));
+    }
+
+    private void broadcastStatus(Map<String, Object> status) {
+        if (emitters.isEmpty()) return;
+
+        Map<String, Object> payload = new HashMap<>(status);
+        payload.putAll(getLastReconnectInfo());
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(STATUS_EVENT).data(payload));
+            } catch (Exception e) {
+                log.debug("Removendo assinante SSE desconectado: {}", e.getMessage());
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    /**
+     * Consulta o status diretamente na API WhatsApp
+     * @return Map com status (is_connected, is_logged_in, device_id) ou status de erro
+     */
+    private Map<String, Object> fetchStatus() {
         try {
             ResponseEntity<String> response = whatsappSenderService.sendGetRequest(STATUS_ENDPOINT);
             
@@ -127,6 +221,7 @@ public class WhatsappConnectionService {
             }
             
             log.info("Reconexão manual realizada com sucesso");
+            refreshStatus();
             return Map.of(
                 "success", true,
                 "message", "Reconexão realizada com sucesso",
@@ -183,7 +278,7 @@ public class WhatsappConnectionService {
         try {
             lastAutoCheck = LocalDateTime.now();
             log.debug("Verificando status da conexão WhatsApp (reconexão automática)");
-            Map<String, Object> status = getStatus();
+            Map<String, Object> status = refreshStatus();
             
             if (status != null) {
                 Boolean isConnected = (Boolean) status.get("is_connected");
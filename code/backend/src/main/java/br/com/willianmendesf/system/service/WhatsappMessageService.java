@@ -1,14 +1,20 @@
 package br.com.willianmendesf.system.service;
 
+import br.com.willianmendesf.system.exception.WhatsappMessageException;
 import br.com.willianmendesf.system.model.WhatsappMessageSender;
 import br.com.willianmendesf.system.model.WhatsappSender;
+import br.com.willianmendesf.system.model.dto.WhatsappContactDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappGroupDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappHistoryMessageDTO;
 import br.com.willianmendesf.system.model.enums.WhatsappMediaType;
 import br.com.willianmendesf.system.service.utils.WhatsappExtractor;
 import br.com.willianmendesf.system.service.utils.WhatsappSenderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -17,11 +23,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Objects.isNull;
@@ -40,7 +46,7 @@ public class WhatsappMessageService {
 
     private final WhatsappSenderService whatsappSender;
 
-    public List<Map<String, String>> getContacts() {
+    public List<WhatsappContactDTO> getContacts() {
         HttpEntity<Void> request = whatsappSender.createRequestEntity(null);
         ResponseEntity<String> response = whatsappSender.sendRequest(GET_CONTACTS, request);
         String jsonResponse = response.getBody();
@@ -48,28 +54,28 @@ public class WhatsappMessageService {
     }
 
 
-    public Map<String, String> getGroupById(String id) {
+    public WhatsappGroupDTO getGroupById(String id) {
         HttpEntity<Void> request = whatsappSender.createRequestEntity(null);
         ResponseEntity<String> response = whatsappSender.sendRequest(GET_GROUPS, request);
         String jsonResponse = response.getBody();
 
-        List<Map<String, String>> groupsList = WhatsappExtractor.extractGroupList(jsonResponse);
+        List<WhatsappGroupDTO> groupsList = WhatsappExtractor.extractGroupList(jsonResponse);
 
-        Optional<Map<String, String>> groupFiltered = groupsList.stream()
-                .filter(group -> id.equals(group.get("id")))
+        Optional<WhatsappGroupDTO> groupFiltered = groupsList.stream()
+                .filter(group -> id.equals(group.getId()))
                 .findFirst();
 
         return groupFiltered.orElse(null);
     }
 
-    public List<Map<String, String>> getGroups() {
+    public List<WhatsappGroupDTO> getGroups() {
         HttpEntity<Void> request = whatsappSender.createRequestEntity(null);
         ResponseEntity<String> response = whatsappSender.sendRequest(GET_GROUPS, request);
         String jsonResponse = response.getBody();
         return WhatsappExtractor.extractGroupList(jsonResponse);
     }
 
-    public List<Map<String, String>> getHistory(String jid) {
+    public List<WhatsappHistoryMessageDTO> getHistory(String jid) {
         HttpEntity<Void> request = whatsappSender.createRequestEntity(null);
         ResponseEntity<String> response = whatsappSender.sendRequest("/chat/" + jid + "/messages", request);
         String jsonResponse = response.getBody();
@@ -77,10 +83,40 @@ public class WhatsappMessageService {
     }
 
     public void sendMessage(WhatsappSender message) {
+        sendMessage(message, null);
+    }
+
+    /**
+     * Envia a mensagem reaproveitando uma mídia já carregada em memória (ver {@link #loadMedia(String)}).
+     * Se media for null e a mensagem tiver arquivo, ele é lido do disco normalmente
+     */
+    public void sendMessage(WhatsappSender message, Resource media) {
         if (isNull(message.getMedia()) || message.getMedia().isEmpty())
             sendTextMessage(message);
         else
-            sendMediaMessage(message);
+            sendMediaMessage(message, media);
+    }
+
+    /**
+     * Lê o arquivo de mídia uma única vez para ser compartilhado entre todos os destinatários de um envio em massa,
+     * evitando resolver, verificar e ler o mesmo arquivo do disco a cada destinatário
+     * @throws IllegalArgumentException se o caminho sair do diretório de uploads ou o arquivo não existir
+     */
+    public Resource loadMedia(String media) {
+        Path imagePath = resolveMediaPath(media);
+        try {
+            byte[] content = Files.readAllBytes(imagePath);
+            String filename = imagePath.getFileName().toString();
+            log.info("Media file loaded for reuse: {} ({} bytes)", imagePath, content.length);
+            return new ByteArrayResource(content) {
+                @Override
+                public String getFilename() {
+                    return filename;
+                }
+            };
+        } catch (IOException e) {
+            throw new WhatsappMessageException("Error reading media file: " + imagePath, e);
+        }
     }
 
     private void sendTextMessage(WhatsappSender message) {
@@ -99,16 +135,16 @@ public class WhatsappMessageService {
             throw new IllegalArgumentException("Message is null");
     }
 
-    private void sendMediaMessage(WhatsappSender message) {
+    private void sendMediaMessage(WhatsappSender message, Resource media) {
         log.info("Sending media message!");
-        var body = createMediaMessage(message);
+        var body = createMediaMessage(message, media);
         HttpEntity<MultiValueMap<String, Object>> request = 
             whatsappSender.createMultipartRequestEntity(body, MediaType.MULTIPART_FORM_DATA);
         whatsappSender.sendRequest(SEND_MESSAGE + message.getMediaType().getDesc(), request);
         log.info("Message media sent!");
     }
 
-    private MultiValueMap<String, Object> createMediaMessage(WhatsappSender message) {
+    private MultiValueMap<String, Object> createMediaMessage(WhatsappSender message, Resource media) {
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
 
         if(message.getMediaType().equals(WhatsappMediaType.IMAGE)) {
@@ -120,19 +156,35 @@ public class WhatsappMessageService {
         body.add("view_once", message.getView_once());
         body.add("compress", message.getCompress());
         
+        if (media != null) {
+            body.add(message.getMediaType().getDesc(), media);
+            return body;
+        }
+
+        Path imagePath = resolveMediaPath(message.getMedia());
+        log.info("Sending media file from path: {}", imagePath);
+        body.add(message.getMediaType().getDesc(), new FileSystemResource(imagePath.toFile()));
+
+        return body;
+    }
+
+    private Path resolveMediaPath(String media) {
         // Usar Path para garantir compatibilidade entre sistemas (Windows/Linux/Docker)
-        Path imagePath = Paths.get(uploadDir).resolve(message.getMedia()).normalize().toAbsolutePath();
-        
+        Path baseDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path imagePath = baseDir.resolve(media).toAbsolutePath().normalize();
+
+        // Caminho absoluto ou com ".." não pode sair do diretório de uploads
+        if (!imagePath.startsWith(baseDir)) {
+            log.warn("Media path outside upload directory rejected: {}", media);
+            throw new IllegalArgumentException("Invalid media path: " + media);
+        }
+
         // Validar se o arquivo existe
         if (!Files.exists(imagePath)) {
             log.error("Image file not found: {}", imagePath);
             throw new IllegalArgumentException("Image file not found: " + imagePath);
         }
-        
-        log.info("Sending media file from path: {}", imagePath);
-        body.add(message.getMediaType().getDesc(), new FileSystemResource(imagePath.toFile()));
-
-        return body;
+        return imagePath;
     }
 }
 
@@ -0,0 +1,117 @@
+package br.com.willianmendesf.system.service.utils;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Leitura de planilhas .xlsx linha a linha pelo leitor SAX do POI, sem montar o workbook em memória.
+ * Lê apenas a primeira aba e ignora a linha de cabeçalho. Os valores chegam como texto:
+ * datas em ISO (yyyy-MM-dd), números inteiros sem casas decimais e fórmulas pelo último resultado calculado
+ */
+public class ExcelRowReader {
+
+    private ExcelRowReader() { }
+
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @param rowNumber número da linha na planilha (1 = cabeçalho)
+         * @param values valores por coluna, já sem espaços nas pontas; null para células vazias
+         */
+        void row(int rowNumber, String[] values);
+    }
+
+    /**
+     * @return quantidade de linhas de dados lidas (sem o cabeçalho)
+     */
+    public static int read(Path file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) return 0;
+
+            RowCollector collector = new RowCollector(handler);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, collector, new ImportDataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+            return collector.rows;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Planilha inválida: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler handler;
+        private final List<String> values = new ArrayList<>();
+        private int column;
+        private int rows;
+
+        private RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+            column = -1;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            column = cellReference != null ? new CellReference(cellReference).getCol() : column + 1;
+            while (values.size() < column) values.add(null);
+            String value = formattedValue != null ? formattedValue.trim() : null;
+            values.add(value == null || value.isEmpty() ? null : value);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) return;
+            rows++;
+            handler.row(rowNum + 1, values.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Ignora o formato de exibição das células: o que importa para a importação é o valor
+     * (telefone ou CEP numérico não podem virar notação científica, datas precisam de formato fixo)
+     */
+    private static final class ImportDataFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            if (value == (long) value) {
+                return String.valueOf((long) value);
+            }
+            return String.valueOf(value);
+        }
+    }
+}
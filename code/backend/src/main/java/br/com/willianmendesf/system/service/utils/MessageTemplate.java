@@ -0,0 +1,112 @@
+package br.com.willianmendesf.system.service.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Template de mensagem compilado uma única vez em uma lista de segmentos (texto fixo e placeholders).
+ * Placeholders usam o formato {{nome}}, sem diferenciar maiúsculas/minúsculas nem espaços internos.
+ * A renderização só concatena segmentos em um StringBuilder reaproveitado por thread,
+ * sem regex nem parsing de formato a cada destinatário
+ *
+ * Placeholders usados pelos envios: nome, grupo, telefone, data, hora, agendamento
+ */
+public final class MessageTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private final String source;
+    // literals[i] vem antes de placeholders[i]; literals tem um elemento a mais (texto final)
+    private final String[] literals;
+    private final String[] placeholders;
+    // Texto original de cada placeholder ("{{ Nome }}"), mantido quando não há valor para ele
+    private final String[] originals;
+
+    private MessageTemplate(String source, String[] literals, String[] placeholders, String[] originals) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.originals = originals;
+    }
+
+    public static MessageTemplate compile(String text) {
+        String source = text != null ? text : "";
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        List<String> originals = new ArrayList<>();
+
+        int position = 0;
+        StringBuilder literal = new StringBuilder();
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            int close = open >= 0 ? source.indexOf(CLOSE, open + OPEN.length()) : -1;
+            if (open < 0 || close < 0) {
+                literal.append(source, position, source.length());
+                break;
+            }
+
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty() || name.contains(OPEN)) {
+                // Não é um placeholder válido: mantém o texto como está
+                literal.append(source, position, open + OPEN.length());
+                position = open + OPEN.length();
+                continue;
+            }
+
+            literal.append(source, position, open);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(name.toLowerCase(Locale.ROOT));
+            originals.add(source.substring(open, close + CLOSE.length()));
+            position = close + CLOSE.length();
+        }
+        literals.add(literal.toString());
+
+        return new MessageTemplate(source, literals.toArray(new String[0]), placeholders.toArray(new String[0]),
+                originals.toArray(new String[0]));
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public boolean hasPlaceholders() {
+        return placeholders.length > 0;
+    }
+
+    /**
+     * Renderiza o template. Placeholders ausentes do mapa ficam como no texto original
+     * (chaves duplas literais, {{nome}} em envios sem dados de membro); presentes com valor null viram texto vazio
+     * @param values valores por nome de placeholder (em minúsculas)
+     */
+    public String render(Map<String, String> values) {
+        if (placeholders.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+            String value = values.get(placeholders[i]);
+            if (value != null) {
+                builder.append(value);
+            } else if (!values.containsKey(placeholders[i])) {
+                builder.append(originals[i]);
+            }
+        }
+        builder.append(literals[placeholders.length]);
+
+        String result = builder.toString();
+        if (builder.capacity() > MAX_POOLED_CAPACITY) {
+            BUILDER.remove();
+        }
+        return result;
+    }
+}
@@ -6,27 +6,32 @@ import lombok.AllArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 
 @AllArgsConstructor
 public class MessagesUtils {
 
     private static WhatsappMessageService whatsapp;
 
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    private static final MessageTemplate MONITORING_TEMPLATE = MessageTemplate.compile(
+            "🚨 *MENSAGEM DE MONITORAMENTO DE AGENDAMENTO* 🚨\n" +
+                    "--------------------------------------\n" +
+                    "Nome: *{{nome}}*\n" +
+                    "Descrição: *{{descricao}}*\n" +
+                    "Data/Hora envio: *{{data}}*\n" +
+                    "--------------------------------------\n\n" +
+            "Verifique o sistema para mais detalhes.");
+
     public static String generateMonitoringMessage(AppointmentEntity appointment) {
-        return String.format(
-                "🚨 *MENSAGEM DE MONITORAMENTO DE AGENDAMENTO* 🚨\n" +
-                        "--------------------------------------\n" +
-                        "Nome: *%s*\n" +
-                        "Descrição: *%s*\n" +
-                        "Data/Hora envio: *%s*\n" +
-                        //"Enviado para: *%s*\n" +
-                        //"Status Atual: *%s*\n" +
-                        "--------------------------------------\n\n" +
-                "Verifique o sistema para mais detalhes.",
-                appointment.getName(),
-                appointment.getDescription(),
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"))
-                //sources
-        );
+        Map<String, String> values = new HashMap<>(4);
+        values.put("nome", String.valueOf(appointment.getName()));
+        values.put("descricao", String.valueOf(appointment.getDescription()));
+        values.put("data", LocalDateTime.now().format(DATE_TIME_FORMATTER));
+        return MONITORING_TEMPLATE.render(values);
     }
 }
@@ -0,0 +1,62 @@
+package br.com.willianmendesf.system.service.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Chave fonética de nomes em português para encontrar a mesma pessoa escrita de formas diferentes.
+ * Parte do nome sem acentos (TextNormalizer.fold), ignora partículas (da, de, dos...) e reduz grafias
+ * de mesmo som (ph/f, th/t, y/i, w/v, ç/ss/z/s, qu/k/c, ch/sh/x, lh/li, nh/ni, h mudo, letras dobradas).
+ * Usa só o primeiro e o último nome, já que nomes do meio costumam ser omitidos no cadastro:
+ * "Thaís Conceição de Souza" e "Tais Sousa" geram a mesma chave "tais sousa"
+ */
+public class NameFingerprint {
+
+    private static final Set<String> PARTICLES = Set.of("da", "das", "de", "di", "do", "dos", "du", "e");
+
+    private NameFingerprint() { }
+
+    /**
+     * @return chave do nome ou "" quando não há nome
+     */
+    public static String of(String name) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TextNormalizer.fold(name).split(" ")) {
+            if (token.isEmpty() || PARTICLES.contains(token)) continue;
+            String phonetic = phonetic(token);
+            if (!phonetic.isEmpty()) tokens.add(phonetic);
+        }
+        if (tokens.isEmpty()) return "";
+        if (tokens.size() == 1) return tokens.get(0);
+        return tokens.get(0) + " " + tokens.get(tokens.size() - 1);
+    }
+
+    private static String phonetic(String token) {
+        String word = token
+                .replace("ph", "f")
+                .replace("th", "t")
+                .replace("sh", "x")
+                .replace("ch", "x")
+                .replace("lh", "li")
+                .replace("nh", "ni")
+                .replace('y', 'i')
+                // c com som de s (ce/ci), antes de qu/k virarem c
+                .replace("ce", "se")
+                .replace("ci", "si")
+                .replace("qu", "k")
+                .replace('k', 'c')
+                .replace('w', 'v')
+                .replace('z', 's')
+                // h mudo que sobrou (Helena = Elena)
+                .replace("h", "");
+
+        StringBuilder key = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (key.length() > 0 && key.charAt(key.length() - 1) == c) continue;
+            key.append(c);
+        }
+        return key.toString();
+    }
+}
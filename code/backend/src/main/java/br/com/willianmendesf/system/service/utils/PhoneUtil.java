@@ -5,6 +5,11 @@ package br.com.willianmendesf.system.service.utils;
  */
 public class PhoneUtil {
 
+    /**
+     * Tamanho máximo das colunas de telefone normalizado (*_normalizado)
+     */
+    public static final int NORMALIZED_MAX_LENGTH = 32;
+
     /**
      * Sanitiza o telefone removendo todos os caracteres não numéricos
      * 
@@ -18,6 +23,20 @@ public class PhoneUtil {
         return phone.replaceAll("[^0-9]", "");
     }
 
+    /**
+     * Normaliza o telefone para as colunas indexadas de busca (apenas dígitos)
+     *
+     * @param phone Telefone no formato original
+     * @return Dígitos do telefone ou null se não houver dígitos (ou se exceder NORMALIZED_MAX_LENGTH)
+     */
+    public static String normalize(String phone) {
+        String sanitized = sanitize(phone);
+        if (sanitized == null || sanitized.isEmpty() || sanitized.length() > NORMALIZED_MAX_LENGTH) {
+            return null;
+        }
+        return sanitized;
+    }
+
     /**
      * Valida se o telefone sanitizado é válido (mínimo 10 dígitos)
      * 
@@ -0,0 +1,37 @@
+package br.com.willianmendesf.system.service.utils;
+
+import java.text.Normalizer;
+
+/**
+ * Normalização de texto para buscas: sem acentos (José = Jose, Conceição = Conceicao),
+ * minúsculo e com pontuação/espaços repetidos reduzidos a um único espaço
+ */
+public class TextNormalizer {
+
+    private TextNormalizer() { }
+
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && folded.length() > 0) folded.append(' ');
+                folded.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return folded.toString();
+    }
+}
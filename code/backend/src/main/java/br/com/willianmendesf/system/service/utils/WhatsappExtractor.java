@@ -1,74 +1,133 @@
 package br.com.willianmendesf.system.service.utils;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import br.com.willianmendesf.system.model.dto.WhatsappContactDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappGroupDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappHistoryMessageDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 
+/**
+ * Extrai as listas retornadas pela API do WhatsApp (formato { "results": { "data": [...] } })
+ * lendo o JSON em streaming, sem montar a árvore de JsonNode da resposta inteira
+ */
 public class WhatsappExtractor {
-    public static List<Map<String, String>> extractMessageHistory(String jsonResponse) {
-        List<Map<String, String>> contactsList = new ArrayList<>();
-
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(jsonResponse);
-            JsonNode groups = root.path("results").path("data");
-
-            if (groups.isArray()) {
-                for (JsonNode group : groups) {
-                    String id = group.path("chat_jid").asText();
-                    String timestamp = group.path("timestamp").asText();
-                    String message = group.path("content").asText();
-                    contactsList.add(Map.of("id", id, "timestamp", timestamp, "message", message));
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final String[] HISTORY_FIELDS = {"chat_jid", "timestamp", "content"};
+    private static final String[] CONTACT_FIELDS = {"jid", "name"};
+    private static final String[] GROUP_FIELDS = {"JID", "Name"};
+
+    public static List<WhatsappHistoryMessageDTO> extractMessageHistory(String jsonResponse) {
+        return extractData(jsonResponse, HISTORY_FIELDS,
+                values -> new WhatsappHistoryMessageDTO(values[0], values[1], values[2]),
+                "Failed to parse message history JSON");
+    }
+
+    public static List<WhatsappContactDTO> extractContactsList(String jsonResponse) {
+        return extractData(jsonResponse, CONTACT_FIELDS,
+                values -> new WhatsappContactDTO(values[0], values[1]),
+                "Failed to parse contacts JSON");
+    }
+
+    public static List<WhatsappGroupDTO> extractGroupList(String jsonResponse) {
+        return extractData(jsonResponse, GROUP_FIELDS,
+                values -> new WhatsappGroupDTO(values[0], values[1]),
+                "Failed to parse groups JSON");
+    }
+
+    /**
+     * Percorre results.data e, para cada objeto do array, lê apenas os campos informados
+     * (valores ausentes ou nulos viram string vazia). Demais campos são ignorados com skipChildren
+     */
+    private static <T> List<T> extractData(String jsonResponse, String[] fields,
+                                           Function<String[], T> factory, String errorMessage) {
+        List<T> items = new ArrayList<>();
+        if (jsonResponse == null || jsonResponse.isBlank()) {
+            return items;
+        }
+
+        try (JsonParser parser = MAPPER.createParser(jsonResponse)) {
+            if (!moveToDataArray(parser)) {
+                return items;
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
                 }
+                items.add(factory.apply(readFields(parser, fields)));
             }
         } catch (Exception e) {
-            throw new RuntimeException("Failed to parse contacts JSON", e);
+            throw new RuntimeException(errorMessage, e);
         }
-        return contactsList;
+        return items;
     }
 
-    public static List<Map<String, String>> extractContactsList(String jsonResponse) {
-        List<Map<String, String>> contactsList = new ArrayList<>();
+    /**
+     * Posiciona o parser no início do array results.data
+     * @return false se a resposta não tiver esse array
+     */
+    private static boolean moveToDataArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
 
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(jsonResponse);
-            JsonNode groups = root.path("results").path("data");
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
 
-            if (groups.isArray()) {
-                for (JsonNode group : groups) {
-                    String jid = group.path("jid").asText();
-                    String name = group.path("name").asText();
-                    contactsList.add(Map.of("id", jid, "name", name));
+            if ("results".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String inner = parser.currentName();
+                    JsonToken innerValue = parser.nextToken();
+                    if ("data".equals(inner)) {
+                        return innerValue == JsonToken.START_ARRAY;
+                    }
+                    parser.skipChildren();
                 }
+                return false;
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse contacts JSON", e);
+            parser.skipChildren();
         }
-        return contactsList;
+        return false;
     }
 
-    public static List<Map<String, String>> extractGroupList(String jsonResponse) {
-        List<Map<String, String>> groupsList = new ArrayList<>();
+    private static String[] readFields(JsonParser parser, String[] fields) throws IOException {
+        String[] values = new String[fields.length];
 
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(jsonResponse);
-            JsonNode groups = root.path("results").path("data");
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            int index = indexOf(fields, field);
 
-            if (groups.isArray()) {
-                for (JsonNode group : groups) {
-                    String jid = group.path("JID").asText();
-                    String name = group.path("Name").asText();
-                    groupsList.add(Map.of("id", jid, "name", name));
-                }
+            if (index >= 0 && value.isScalarValue()) {
+                values[index] = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse groups JSON", e);
         }
-        return groupsList;
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) values[i] = "";
+        }
+        return values;
+    }
+
+    private static int indexOf(String[] fields, String field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].equals(field)) return i;
+        }
+        return -1;
     }
 }
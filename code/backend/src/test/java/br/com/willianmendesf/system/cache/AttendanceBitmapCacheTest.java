@@ -0,0 +1,168 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.enums.EventType;
+import br.com.willianmendesf.system.model.event.AttendanceChangedEvent;
+import br.com.willianmendesf.system.repository.AttendanceRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AttendanceBitmapCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    // Ids esparsos, como os do gerador em bloco após vários reinícios
+    private static final int SPARSE_BASE = 1_000_000;
+
+    @Test
+    void presentAtLeastCountsAcrossPowersOfTwo() {
+        for (int events = 1; events <= 9; events++) {
+            // Membro SPARSE_BASE + k presente nos k primeiros eventos
+            List<Object[]> rows = new ArrayList<>();
+            for (int k = 1; k <= events; k++) {
+                for (long event = 1; event <= k; event++) {
+                    rows.add(row(event, START.plusDays(event), EventType.WORSHIP_SERVICE, SPARSE_BASE + k));
+                }
+            }
+            AttendanceBitmapCache cache = load(rows);
+            List<Long> eventIds = LongStream.rangeClosed(1, events).boxed().toList();
+
+            for (int min = 1; min <= events + 1; min++) {
+                BitSet expected = new BitSet();
+                for (int k = min; k <= events; k++) expected.set(SPARSE_BASE + k);
+                assertThat(cache.presentAtLeast(eventIds, min))
+                        .as("%d events, min %d", events, min)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void minEqualToLastKeepsOnlyMembersPresentInEveryEvent() {
+        AttendanceBitmapCache cache = load(List.of(
+                row(1, START, EventType.WORSHIP_SERVICE, 7),
+                row(2, START.plusWeeks(1), EventType.WORSHIP_SERVICE, 7),
+                row(2, START.plusWeeks(1), EventType.WORSHIP_SERVICE, 8),
+                row(3, START.plusWeeks(2), EventType.MEETING, 8),
+                row(4, START.plusWeeks(3), EventType.WORSHIP_SERVICE, 7)));
+
+        List<Long> last = cache.lastEvents(START.plusWeeks(3), EventType.WORSHIP_SERVICE, 3);
+
+        assertThat(last).containsExactly(4L, 2L, 1L);
+        assertThat(cache.presentAtLeast(last, 3).stream()).containsExactly(7);
+        // Menos eventos com chamada do que o pedido: ninguém alcança min
+        assertThat(cache.presentAtLeast(List.of(4L, 2L), 3).stream()).isEmpty();
+    }
+
+    @Test
+    void presentInAllAndNone() {
+        AttendanceBitmapCache cache = load(List.of(
+                row(1, START, EventType.WORSHIP_SERVICE, 1),
+                row(1, START, EventType.WORSHIP_SERVICE, 2),
+                row(1, START, EventType.WORSHIP_SERVICE, SPARSE_BASE),
+                row(2, START.plusDays(1), EventType.MEETING, 2),
+                row(2, START.plusDays(1), EventType.MEETING, SPARSE_BASE),
+                row(3, START.plusDays(2), EventType.OTHER, SPARSE_BASE)));
+
+        assertThat(cache.presentInAllAndNone(List.of(1L, 2L), List.of(3L)).stream()).containsExactly(2);
+        assertThat(cache.presentInAllAndNone(List.of(1L, 99L), List.of()).stream()).isEmpty();
+        assertThat(cache.presentInAllAndNone(List.of(), List.of(3L)).stream()).isEmpty();
+    }
+
+    @Test
+    void lostMembersAreRegularsAbsentFromTheLastWeeks() {
+        // Domingos: 01, 08 e 15/03 na sequência; 22 e 29/03 no afastamento
+        List<Object[]> rows = new ArrayList<>();
+        for (long event = 1; event <= 3; event++) {
+            rows.add(row(event, START.plusWeeks(event - 1), EventType.WORSHIP_SERVICE, 10));
+            rows.add(row(event, START.plusWeeks(event - 1), EventType.WORSHIP_SERVICE, 11));
+        }
+        rows.add(row(1, START, EventType.WORSHIP_SERVICE, 12));
+        rows.add(row(4, START.plusWeeks(3), EventType.WORSHIP_SERVICE, 12));
+        rows.add(row(5, START.plusWeeks(4), EventType.WORSHIP_SERVICE, 11));
+        rows.add(row(6, START.plusWeeks(4), EventType.MEETING, 10));
+        AttendanceBitmapCache cache = load(rows);
+
+        LocalDate reference = START.plusWeeks(4);
+        assertThat(cache.lostMembers(reference, EventType.WORSHIP_SERVICE, 3, 2).stream()).containsExactly(10);
+        // Sem filtro de tipo a reunião do dia 29 conta como presença
+        assertThat(cache.lostMembers(reference, null, 3, 2).stream()).isEmpty();
+    }
+
+    @Test
+    void lostMembersWithoutEventsInAWindowIsEmpty() {
+        List<Object[]> streakOnly = new ArrayList<>();
+        for (long event = 1; event <= 3; event++) {
+            streakOnly.add(row(event, START.plusWeeks(event - 1), EventType.WORSHIP_SERVICE, 10));
+        }
+        assertThat(load(streakOnly).lostMembers(START.plusWeeks(4), null, 3, 2).stream()).isEmpty();
+
+        List<Object[]> absentOnly = List.of(
+                row(4, START.plusWeeks(3), EventType.WORSHIP_SERVICE, 11),
+                row(5, START.plusWeeks(4), EventType.WORSHIP_SERVICE, 11));
+        assertThat(load(absentOnly).lostMembers(START.plusWeeks(4), null, 3, 2).stream()).isEmpty();
+    }
+
+    @Test
+    void removingTheLastPresenceDropsTheEvent() {
+        AttendanceBitmapCache cache = load(List.<Object[]>of(row(1, START, EventType.WORSHIP_SERVICE, SPARSE_BASE)));
+
+        cache.onAttendanceChanged(new AttendanceChangedEvent(5L, 2L, START.plusDays(7), EventType.WORSHIP_SERVICE, false));
+        assertThat(cache.lastEvents(START.plusDays(7), null, 5)).containsExactly(2L, 1L);
+
+        cache.onAttendanceChanged(new AttendanceChangedEvent((long) SPARSE_BASE, 1L, START, EventType.WORSHIP_SERVICE, true));
+        assertThat(cache.lastEvents(START.plusDays(7), null, 5)).containsExactly(2L);
+    }
+
+    @Test
+    void memberSetSwitchesBetweenIdsAndBitsByDensity() {
+        AttendanceBitmapCache.MemberSet set = new AttendanceBitmapCache.MemberSet();
+        set.add(SPARSE_BASE);
+        set.add(3);
+        set.add(3);
+        assertThat(set.isCompact()).isTrue();
+        assertThat(set.toBitSet().stream()).containsExactly(3, SPARSE_BASE);
+
+        // 0..199 ocupam 4 palavras no BitSet: bem menos que 200 ints
+        BitSet dense = new BitSet();
+        dense.set(0, 200);
+        dense.stream().forEach(set::add);
+        set.remove(SPARSE_BASE);
+        assertThat(set.isCompact()).isFalse();
+        assertThat(set.toBitSet()).isEqualTo(dense);
+
+        for (int id = 0; id < 198; id++) set.remove(id);
+        assertThat(set.isCompact()).isTrue();
+        assertThat(set.toBitSet().stream()).containsExactly(198, 199);
+
+        BitSet target = new BitSet();
+        target.set(197, 200);
+        set.andNotFrom(target);
+        assertThat(target.stream()).containsExactly(197);
+
+        set.remove(198);
+        set.remove(199);
+        assertThat(set.isEmpty()).isTrue();
+        set.add(42);
+        assertThat(set.toBitSet().stream()).containsExactly(42);
+    }
+
+    private static Object[] row(long eventId, LocalDate date, EventType type, long memberId) {
+        return new Object[]{eventId, date, type, memberId};
+    }
+
+    private static AttendanceBitmapCache load(List<Object[]> rows) {
+        AttendanceRepository repository = mock(AttendanceRepository.class);
+        when(repository.findAllForBitmaps()).thenReturn(rows);
+        AttendanceBitmapCache cache = new AttendanceBitmapCache(repository);
+        cache.load();
+        return cache;
+    }
+}
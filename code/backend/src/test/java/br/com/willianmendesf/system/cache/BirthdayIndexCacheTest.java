@@ -0,0 +1,64 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.dto.MemberBirthdayDTO;
+import br.com.willianmendesf.system.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BirthdayIndexCacheTest {
+
+    private BirthdayIndexCache cache;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "Bissexto", LocalDate.of(2000, 2, 29), "11999990001", null});
+        rows.add(new Object[]{2L, "Fevereiro", LocalDate.of(1990, 2, 28), "11999990002", null});
+        rows.add(new Object[]{3L, "Março", LocalDate.of(1985, 3, 1), "11999990003", null});
+        rows.add(new Object[]{4L, "Futuro", LocalDate.of(2030, 2, 28), "11999990004", null});
+
+        MemberRepository repository = mock(MemberRepository.class);
+        when(repository.findAllForBirthdayIndex()).thenReturn(rows);
+        cache = new BirthdayIndexCache(repository);
+        cache.load();
+    }
+
+    @Test
+    void leapDayBirthdayFallsOnFebruary28InCommonYears() {
+        List<MemberBirthdayDTO> today = cache.upcoming(LocalDate.of(2025, 2, 28), 1);
+
+        assertThat(today).extracting(MemberBirthdayDTO::getNome).containsExactly("Bissexto", "Fevereiro");
+        assertThat(today.get(0).getAniversario()).isEqualTo(LocalDate.of(2025, 2, 28));
+        assertThat(today.get(0).getIdade()).isEqualTo(25);
+    }
+
+    @Test
+    void leapDayBirthdayStaysOnFebruary29InLeapYears() {
+        assertThat(cache.upcoming(LocalDate.of(2028, 2, 28), 1))
+                .extracting(MemberBirthdayDTO::getNome).containsExactly("Fevereiro");
+        assertThat(cache.upcoming(LocalDate.of(2028, 2, 29), 1))
+                .extracting(MemberBirthdayDTO::getNome).containsExactly("Bissexto");
+    }
+
+    @Test
+    void rangeIsOrderedByDaysRemaining() {
+        List<MemberBirthdayDTO> week = cache.upcoming(LocalDate.of(2025, 2, 27), 3);
+
+        assertThat(week).extracting(MemberBirthdayDTO::getNome).containsExactly("Bissexto", "Fevereiro", "Março");
+        assertThat(week).extracting(MemberBirthdayDTO::getDiasRestantes).containsExactly(1, 1, 2);
+    }
+
+    @Test
+    void futureBirthDateIsIgnoredUntilItHappens() {
+        assertThat(cache.upcoming(LocalDate.of(2029, 2, 28), 1))
+                .extracting(MemberBirthdayDTO::getNome).doesNotContain("Futuro");
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class FamilyGraphCacheTest {
+
+    private MemberRepository repository;
+    private FamilyGraphCache graph;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MemberRepository.class);
+        // [id, nome, fotoUrl, celular, child, telefone, comercial, telefonePai, telefoneMae, conjugueTelefone]
+        when(repository.findAllForFamilyGraph()).thenReturn(List.of(
+                new Object[]{1L, "Carlos", null, "(11) 99999-0001", false, null, "11 3333-0001", null, null, "11999990002"},
+                new Object[]{2L, "Ana", "ana.jpg", "11 99999-0002", false, null, null, null, null, "11999990001"},
+                new Object[]{3L, "Lucas", null, null, true, null, null, "11999990001", "(11) 99999-0002", null},
+                new Object[]{4L, "Bia", null, null, null, null, null, "11999990001", null, null}));
+        graph = new FamilyGraphCache(repository);
+        graph.load();
+    }
+
+    @Test
+    void loadsFromProjectionOnly() {
+        verify(repository).findAllForFamilyGraph();
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void findsSpouseAndParentsByNormalizedPhone() {
+        assertThat(graph.findOwner("11999990002").getNome()).isEqualTo("Ana");
+        assertThat(graph.findParent("1133330001").getNome()).isEqualTo("Carlos");
+        assertThat(graph.getMember(2L).getFotoUrl()).isEqualTo("ana.jpg");
+    }
+
+    @Test
+    void findsOnlyChildrenFlaggedAsChild() {
+        assertThat(graph.findChildren("11 99999-0001")).extracting("nome").containsExactly("Lucas");
+        assertThat(graph.findChildrenOf(graph.getMember(2L))).extracting("nome").containsExactly("Lucas");
+    }
+}
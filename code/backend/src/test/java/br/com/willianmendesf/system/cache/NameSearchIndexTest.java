@@ -0,0 +1,71 @@
+package br.com.willianmendesf.system.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameSearchIndexTest {
+
+    private final NameSearchIndex index = new NameSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.put(1L, "José da Silva");
+        index.put(2L, "Maria José Santos");
+        index.put(3L, "Josélia Conceição");
+        index.put(4L, "Ana Paula Souza");
+        index.put(5L, "Paulo Henrique");
+    }
+
+    @Test
+    void ignoresAccentsAndCase() {
+        assertThat(index.searchIds("CONCEICAO", 10)).containsExactly(3L);
+        assertThat(index.searchIds("jose", 10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void ranksNamesStartingWithTheQueryFirst() {
+        // 1 e 3 começam com "jose"; 2 só tem a palavra; ordem alfabética dentro do mesmo nível
+        assertThat(index.searchIds("josé", 10)).containsExactly(1L, 3L, 2L);
+        // "aul" aparece no meio de palavras: nível mais baixo, mas encontrado pelos trigramas
+        assertThat(index.searchIds("aul", 10)).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        assertThat(index.searchIds("jose santos", 10)).containsExactly(2L);
+        assertThat(index.searchIds("ana pa", 10)).containsExactly(4L);
+        // Termos curtos usam prefixo de palavra
+        assertThat(index.searchIds("p h", 10)).containsExactly(5L);
+        assertThat(index.searchIds("jose souza", 10)).isEmpty();
+    }
+
+    @Test
+    void trigramFalsePositivesAreDiscarded() {
+        // "silvaria" tem os trigramas de "Silva" e "Maria" espalhados, mas não aparece em nenhum nome
+        index.put(6L, "Silvana Varia");
+        assertThat(index.searchIds("silvaria", 10)).isEmpty();
+    }
+
+    @Test
+    void followsUpdatesAndRemovals() {
+        index.put(4L, "Ana Paula Lima");
+        assertThat(index.searchIds("souza", 10)).isEmpty();
+        assertThat(index.searchIds("lima", 10)).containsExactly(4L);
+
+        index.remove(1L);
+        assertThat(index.searchIds("silva", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+
+        index.put(5L, " ");
+        assertThat(index.searchIds("paulo", 10)).isEmpty();
+    }
+
+    @Test
+    void respectsTheLimit() {
+        assertThat(index.searchIds("jose", 2)).hasSize(2);
+        assertThat(index.searchIds("jose", 0)).isEmpty();
+        assertThat(index.searchIds("   ", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.entity.VisitorEntity;
+import br.com.willianmendesf.system.model.event.VisitorChangedEvent;
+import br.com.willianmendesf.system.repository.VisitorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VisitorDuplicateIndexTest {
+
+    private VisitorDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "Thaís Conceição de Souza", "(11) 98888-0001"});
+        rows.add(new Object[]{2L, "Tais Sousa", "11988880001"});
+        rows.add(new Object[]{3L, "Tais Souza", null});
+        rows.add(new Object[]{4L, "João Pereira", "(11) 97777-0001"});
+        rows.add(new Object[]{5L, "Joao Pereira", "(11) 96666-0001"});
+
+        VisitorRepository repository = mock(VisitorRepository.class);
+        when(repository.findAllIdNomeAndTelefone()).thenReturn(rows);
+        index = new VisitorDuplicateIndex(repository);
+        index.load();
+    }
+
+    @Test
+    void matchesSameNameKeyWithSamePhoneOrWithoutPhone() {
+        // Outro telefone: só o registro sem telefone pode ser a mesma pessoa
+        assertThat(index.findMatches("Taís Souza", "11955550001")).containsExactly(3L);
+        assertThat(index.findMatches("Taís Souza", "11988880001")).containsExactly(1L, 2L, 3L);
+        assertThat(index.findMatches("Taís Souza", null)).containsExactly(1L, 2L, 3L);
+        assertThat(index.findMatches("João Pereira", "11977770001")).containsExactly(4L);
+        assertThat(index.findMatches("", "11977770001")).isEmpty();
+    }
+
+    @Test
+    void groupsRecordsWithoutPhoneOnlyWhenTheNameHasASinglePhone() {
+        // 4 e 5: mesmo nome, telefones diferentes -> pessoas diferentes
+        assertThat(index.findGroups()).containsExactly(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void followsVisitorChanges() {
+        VisitorEntity renamed = new VisitorEntity();
+        renamed.setId(2L);
+        renamed.setNomeCompleto("Beatriz Lima");
+        renamed.setTelefone("11988880001");
+        index.onVisitorChanged(new VisitorChangedEvent(renamed, false));
+
+        assertThat(index.findMatches("Tais Sousa", "11988880001")).containsExactly(1L, 3L);
+
+        VisitorEntity deleted = new VisitorEntity();
+        deleted.setId(3L);
+        index.onVisitorChanged(new VisitorChangedEvent(deleted, true));
+
+        assertThat(index.findGroups()).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.willianmendesf.system.cache;
+
+import br.com.willianmendesf.system.model.dto.VisitorStatsDTO;
+import br.com.willianmendesf.system.model.entity.VisitorEntity;
+import br.com.willianmendesf.system.model.event.VisitorChangedEvent;
+import br.com.willianmendesf.system.repository.VisitorRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VisitorStatsCacheTest {
+
+    private static final LocalDate FIRST_SUNDAY = LocalDate.of(2026, 3, 1);
+    private static final LocalDate NEXT_SUNDAY = FIRST_SUNDAY.plusWeeks(1);
+    private static final String PHONE = "(11) 99999-0001";
+
+    @Test
+    void groupCheckInCountsEveryPersonAsFirstVisit() {
+        VisitorStatsCache cache = load(family(1L, FIRST_SUNDAY));
+
+        VisitorStatsDTO day = cache.getRange(FIRST_SUNDAY, FIRST_SUNDAY).get(0);
+        assertThat(day.getQuantidade()).isEqualTo(5);
+        assertThat(day.getAcompanhantes()).isEqualTo(4);
+        assertThat(day.getPrimeiraVez()).isEqualTo(5);
+    }
+
+    @Test
+    void returningFamilyIsNotCountedAgain() {
+        List<Object[]> rows = family(1L, FIRST_SUNDAY);
+        rows.addAll(family(11L, NEXT_SUNDAY));
+        // Filho que veio só no segundo domingo, com o mesmo telefone
+        rows.add(new Object[]{20L, NEXT_SUNDAY, true, PHONE, 11L, "Pedro Oliveira"});
+        VisitorStatsCache cache = load(rows);
+
+        VisitorStatsDTO day = cache.getRange(NEXT_SUNDAY, NEXT_SUNDAY).get(0);
+        assertThat(day.getQuantidade()).isEqualTo(6);
+        assertThat(day.getPrimeiraVez()).isEqualTo(1);
+    }
+
+    @Test
+    void companionAddedAfterLoadCountsAsFirstVisit() {
+        VisitorStatsCache cache = load(family(1L, FIRST_SUNDAY));
+
+        VisitorEntity main = new VisitorEntity();
+        main.setId(1L);
+        VisitorEntity companion = new VisitorEntity();
+        companion.setId(30L);
+        companion.setNomeCompleto("Clara Oliveira");
+        companion.setTelefone(PHONE);
+        companion.setDataVisita(FIRST_SUNDAY);
+        companion.setMainVisitor(main);
+        cache.onVisitorChanged(new VisitorChangedEvent(companion, false));
+
+        assertThat(cache.getRange(FIRST_SUNDAY, FIRST_SUNDAY).get(0).getPrimeiraVez()).isEqualTo(6);
+
+        cache.onVisitorChanged(new VisitorChangedEvent(companion, true));
+
+        assertThat(cache.getRange(FIRST_SUNDAY, FIRST_SUNDAY).get(0).getPrimeiraVez()).isEqualTo(5);
+    }
+
+    /**
+     * Visitante principal e quatro acompanhantes com o telefone dele, como gravados pelo check-in em grupo
+     */
+    private static List<Object[]> family(long mainId, LocalDate date) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{mainId, date, true, PHONE, null, "Marcos Oliveira"});
+        String[] companions = {"Ana Oliveira", "Lucas Oliveira", "Julia Oliveira", "Maria Souza"};
+        for (int i = 0; i < companions.length; i++) {
+            rows.add(new Object[]{mainId + i + 1, date, true, PHONE, mainId, companions[i]});
+        }
+        return rows;
+    }
+
+    private static VisitorStatsCache load(List<Object[]> rows) {
+        VisitorRepository repository = mock(VisitorRepository.class);
+        when(repository.findAllForStats()).thenReturn(rows);
+        VisitorStatsCache cache = new VisitorStatsCache(repository);
+        cache.load();
+        return cache;
+    }
+}
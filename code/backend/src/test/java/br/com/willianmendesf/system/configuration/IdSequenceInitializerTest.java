@@ -0,0 +1,68 @@
+package br.com.willianmendesf.system.configuration;
+
+import br.com.willianmendesf.system.model.IdAllocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdSequenceInitializerTest {
+
+    private static final String UPDATE = "UPDATE register_seq SET next_val = ? WHERE next_val < ?";
+    private static final String INSERT = "INSERT INTO register_seq (next_val) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final IdSequenceInitializer initializer = new IdSequenceInitializer(jdbcTemplate, null);
+
+    @Test
+    void movesSequenceOneBlockAboveTheHighestId() {
+        stub(120L, 1L);
+
+        initializer.align("register_seq", "register");
+
+        long floor = 120L + IdAllocation.SIZE;
+        verify(jdbcTemplate).update(UPDATE, floor, floor);
+        verify(jdbcTemplate, never()).update(eq(INSERT), any(Object[].class));
+    }
+
+    @Test
+    void emptyTableStartsAtOneBlock() {
+        stub(0L, 1L);
+
+        initializer.align("register_seq", "register");
+
+        verify(jdbcTemplate).update(UPDATE, (long) IdAllocation.SIZE, (long) IdAllocation.SIZE);
+    }
+
+    @Test
+    void insertsTheRowWhenTheSequenceTableIsEmpty() {
+        stub(7L, 0L);
+
+        initializer.align("register_seq", "register");
+
+        verify(jdbcTemplate).update(INSERT, 7L + IdAllocation.SIZE);
+    }
+
+    @Test
+    void alignsEveryPooledSequence() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+
+        initializer.alignSequences();
+
+        for (String sequence : new String[]{"register_seq", "visitors_seq", "attendance_seq", "appointment_executions_seq"}) {
+            verify(jdbcTemplate).update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?",
+                    1L + IdAllocation.SIZE, 1L + IdAllocation.SIZE);
+        }
+    }
+
+    private void stub(long maxId, long sequenceRows) {
+        when(jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM register", Long.class)).thenReturn(maxId);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM register_seq", Long.class)).thenReturn(sequenceRows);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.willianmendesf.system.model.dto;
+
+import br.com.willianmendesf.system.model.entity.MemberEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberDTOTest {
+
+    @Test
+    void computesIdadeFromNascimentoIgnoringStoredColumn() {
+        MemberEntity member = new MemberEntity();
+        member.setNascimento(LocalDate.now().minusYears(30).plusDays(1));
+        member.setIdade(99);
+
+        assertThat(new MemberDTO(member).getIdade()).isEqualTo(29);
+    }
+
+    @Test
+    void fallsBackToStoredIdadeWithoutNascimento() {
+        MemberEntity member = new MemberEntity();
+        member.setIdade(42);
+
+        assertThat(new MemberDTO(member).getIdade()).isEqualTo(42);
+    }
+
+    @Test
+    void leavesIdadeNullWithoutNascimentoOrColumn() {
+        assertThat(new MemberDTO(new MemberEntity()).getIdade()).isNull();
+    }
+}
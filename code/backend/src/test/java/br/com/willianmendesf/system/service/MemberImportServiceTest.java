@@ -0,0 +1,74 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.model.dto.ImportResultDTO;
+import br.com.willianmendesf.system.model.entity.MemberEntity;
+import br.com.willianmendesf.system.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberImportServiceTest {
+
+    private static final String HEADER = String.join(",", MemberImportService.TEMPLATE_HEADERS);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void countsEveryRowOnce() throws Exception {
+        MemberEntity bruno = new MemberEntity();
+        bruno.setId(7L);
+        bruno.setNome("Bruno");
+        bruno.setEmail("bruno@example.com");
+        bruno.setEstadoCivil(false);
+        bruno.setIntercessor(false);
+        bruno.setLgpd(false);
+
+        MemberRepository repository = mock(MemberRepository.class);
+        List<Object[]> emails = new ArrayList<>();
+        emails.add(new Object[]{"bruno@example.com", 7L});
+        when(repository.findAllEmailAndId()).thenReturn(emails);
+        when(repository.findAllById(anyIterable())).thenReturn(List.of(bruno));
+
+        Path csv = dir.resolve("membros.csv");
+        Files.writeString(csv, String.join("\n",
+                HEADER,
+                "Ana,,,,,,,,,,,,,,ana@example.com,",
+                // Mesmo email da linha anterior: atualiza o membro criado no mesmo lote
+                "Ana Paula,,,,,,,,,,,,,,ana@example.com,",
+                // Igual ao cadastro: sem alteração
+                "Bruno,,,,,,,,,,,,,,bruno@example.com,",
+                "",
+                // Mesmo membro, agora com alteração
+                "Bruno Lima,,,,,,,,,,,,,,bruno@example.com,"));
+
+        ImportResultDTO result = service(repository).importFile(csv, "membros.csv", progress -> { });
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getCreatedCount()).isEqualTo(1);
+        assertThat(result.getUpdatedCount()).isEqualTo(2);
+        assertThat(result.getUnchangedCount()).isEqualTo(1);
+        assertThat(result.getSuccessCount() + result.getErrorCount()).isEqualTo(result.getTotalRows());
+        assertThat(bruno.getNome()).isEqualTo("Bruno Lima");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MemberImportService service(MemberRepository repository) {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        return new MemberImportService(repository, transactionTemplate);
+    }
+}
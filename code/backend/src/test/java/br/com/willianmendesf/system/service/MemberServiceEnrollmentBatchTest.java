@@ -0,0 +1,100 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.model.dto.MemberDTO;
+import br.com.willianmendesf.system.model.entity.GroupEnrollment;
+import br.com.willianmendesf.system.model.entity.GroupEntity;
+import br.com.willianmendesf.system.model.entity.MemberEntity;
+import br.com.willianmendesf.system.model.enums.EnrollmentStatus;
+import br.com.willianmendesf.system.repository.GroupEnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Inscrições dos membros de uma listagem são buscadas em lotes de 1000 ids, não uma consulta por membro
+ */
+class MemberServiceEnrollmentBatchTest {
+
+    private GroupEnrollmentRepository enrollmentRepository;
+    private MemberService service;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentRepository = mock(GroupEnrollmentRepository.class);
+        service = new MemberService(null, null, enrollmentRepository, null, null);
+        when(enrollmentRepository.findByMemberIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            // um membro em cada 10 tem inscrição
+            return ids.stream().filter(id -> id % 10 == 0).map(MemberServiceEnrollmentBatchTest::enrollment).toList();
+        });
+    }
+
+    @Test
+    void queriesEnrollmentsOncePerThousandMembers() {
+        List<MemberDTO> dtos = service.toDTOsWithEnrollments(members(2500));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(enrollmentRepository, times(3)).findByMemberIdIn(batches.capture());
+        verify(enrollmentRepository, never()).findByMemberId(anyLong());
+        assertThat(batches.getAllValues()).extracting(Collection::size).containsExactly(1000, 1000, 500);
+
+        assertThat(dtos).hasSize(2500);
+        assertThat(dtos.get(9).getGroupEnrollments()).extracting("memberId").containsExactly(10L);
+        assertThat(dtos.get(10).getGroupEnrollments()).isEmpty();
+    }
+
+    @Test
+    void exactMultipleOfBatchSizeDoesNotIssueEmptyQuery() {
+        service.toDTOsWithEnrollments(members(1000));
+
+        verify(enrollmentRepository, times(1)).findByMemberIdIn(any());
+    }
+
+    @Test
+    void emptyListIssuesNoQuery() {
+        assertThat(service.toDTOsWithEnrollments(List.of())).isEmpty();
+
+        verify(enrollmentRepository, never()).findByMemberIdIn(any());
+    }
+
+    private static List<MemberEntity> members(int count) {
+        List<MemberEntity> members = new ArrayList<>(count);
+        LongStream.rangeClosed(1, count).forEach(id -> members.add(member(id)));
+        return members;
+    }
+
+    private static MemberEntity member(long id) {
+        MemberEntity member = new MemberEntity();
+        member.setId(id);
+        member.setNome("Membro " + id);
+        return member;
+    }
+
+    private static GroupEnrollment enrollment(long memberId) {
+        GroupEntity group = new GroupEntity();
+        group.setId(1L);
+        group.setNome("Louvor");
+
+        GroupEnrollment enrollment = new GroupEnrollment();
+        enrollment.setId(memberId);
+        enrollment.setMember(member(memberId));
+        enrollment.setGroup(group);
+        enrollment.setStatus(EnrollmentStatus.APPROVED);
+        return enrollment;
+    }
+}
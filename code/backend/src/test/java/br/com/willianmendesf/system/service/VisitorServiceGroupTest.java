@@ -0,0 +1,75 @@
+package br.com.willianmendesf.system.service;
+
+import br.com.willianmendesf.system.model.dto.AccompanyingVisitorDTO;
+import br.com.willianmendesf.system.model.dto.CreateVisitorDTO;
+import br.com.willianmendesf.system.model.dto.VisitorDTO;
+import br.com.willianmendesf.system.model.dto.VisitorGroupRequestDTO;
+import br.com.willianmendesf.system.model.entity.VisitorEntity;
+import br.com.willianmendesf.system.repository.VisitorRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VisitorServiceGroupTest {
+
+    private static final LocalDate SUNDAY = LocalDate.of(2026, 3, 1);
+
+    private final VisitorRepository repository = mock(VisitorRepository.class);
+    private final VisitorService service = new VisitorService(repository, null, null, null);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void savesMainVisitorAndCompanionsInASingleSaveAll() {
+        // Simula o gerador pooled: ids atribuídos no persist, antes de qualquer INSERT
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<VisitorEntity> visitors = invocation.getArgument(0);
+            long id = 101L;
+            for (VisitorEntity visitor : visitors) visitor.setId(id++);
+            return visitors;
+        });
+
+        VisitorDTO result = service.createGroup(new VisitorGroupRequestDTO(
+                new CreateVisitorDTO("Marcos Oliveira", SUNDAY, "11999990001", "Não", null, "Sim", false, "rj"),
+                List.of(companion("Ana Oliveira", null), companion("   ", null), companion("Lucas Oliveira", "11988880002"))));
+
+        ArgumentCaptor<List<VisitorEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        verify(repository, never()).save(any());
+        verify(repository, never()).flush();
+
+        List<VisitorEntity> visitors = saved.getValue();
+        VisitorEntity main = visitors.get(0);
+        // Principal primeiro e acompanhantes apontando para a mesma instância: com order_inserts o
+        // Hibernate ordena os INSERTs pela dependência e grava o principal no mesmo lote, antes deles
+        assertThat(visitors).hasSize(3);
+        assertThat(main.getMainVisitor()).isNull();
+        assertThat(visitors.subList(1, 3)).allSatisfy(visitor -> {
+            assertThat(visitor.getMainVisitor()).isSameAs(main);
+            assertThat(visitor.getDataVisita()).isEqualTo(SUNDAY);
+            assertThat(visitor.getEDeSP()).isFalse();
+            assertThat(visitor.getEstado()).isEqualTo("RJ");
+        });
+        assertThat(visitors).extracting(VisitorEntity::getTelefone)
+                .containsExactly("11999990001", "11999990001", "11988880002");
+
+        assertThat(result.getId()).isEqualTo(101L);
+        assertThat(result.getNomeCompleto()).isEqualTo("Marcos Oliveira");
+    }
+
+    private static AccompanyingVisitorDTO companion(String nome, String telefone) {
+        AccompanyingVisitorDTO dto = new AccompanyingVisitorDTO();
+        dto.setNomeCompleto(nome);
+        dto.setTelefone(telefone);
+        return dto;
+    }
+}
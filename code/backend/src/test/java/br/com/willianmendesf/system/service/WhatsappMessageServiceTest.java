@@ -0,0 +1,71 @@
+package br.com.willianmendesf.system.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WhatsappMessageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private WhatsappMessageService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(root.resolve("uploads/banners"));
+        Files.writeString(root.resolve("uploads/banners/culto.jpg"), "image");
+        Files.writeString(root.resolve("secret.txt"), "secret");
+
+        service = new WhatsappMessageService(null);
+        ReflectionTestUtils.setField(service, "uploadDir", root.resolve("uploads").toString());
+    }
+
+    @Test
+    void loadsMediaInsideUploadDirectory() throws Exception {
+        Resource media = service.loadMedia("banners/../banners/culto.jpg");
+
+        assertThat(media.getFilename()).isEqualTo("culto.jpg");
+        assertThat(media.getContentAsByteArray()).isEqualTo("image".getBytes());
+    }
+
+    @Test
+    void rejectsRelativePathEscapingUploadDirectory() {
+        assertThatThrownBy(() -> service.loadMedia("../secret.txt"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid media path");
+    }
+
+    @Test
+    void rejectsAbsolutePathOutsideUploadDirectory() {
+        String absolute = root.resolve("secret.txt").toAbsolutePath().toString();
+
+        assertThatThrownBy(() -> service.loadMedia(absolute))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid media path");
+    }
+
+    @Test
+    void rejectsSiblingDirectoryWithSamePrefix() throws Exception {
+        Files.createDirectories(root.resolve("uploads-old"));
+        Files.writeString(root.resolve("uploads-old/file.jpg"), "old");
+
+        assertThatThrownBy(() -> service.loadMedia("../uploads-old/file.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMissingFile() {
+        assertThatThrownBy(() -> service.loadMedia("banners/missing.jpg"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.willianmendesf.system.service.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageTemplateTest {
+
+    @Test
+    void replacesKnownPlaceholdersIgnoringCaseAndSpaces() {
+        MessageTemplate template = MessageTemplate.compile("Olá {{nome}}, culto em {{ Data }} às {{HORA}}.");
+
+        assertThat(template.hasPlaceholders()).isTrue();
+        assertThat(template.render(Map.of("nome", "Maria", "data", "01/06/2025", "hora", "19:00")))
+                .isEqualTo("Olá Maria, culto em 01/06/2025 às 19:00.");
+    }
+
+    @Test
+    void keepsPlaceholdersWithoutValueAsWritten() {
+        MessageTemplate template = MessageTemplate.compile("Paz, {{ Nome }}! Grupo {{grupo}} - {{data}}");
+
+        // INDIVIDUAL/GROUP: sem dados de membro, nome e grupo não entram no mapa
+        assertThat(template.render(Map.of("data", "01/06/2025")))
+                .isEqualTo("Paz, {{ Nome }}! Grupo {{grupo}} - 01/06/2025");
+    }
+
+    @Test
+    void keepsLiteralDoubleBracesThatAreNotPlaceholders() {
+        MessageTemplate template = MessageTemplate.compile("Use {{codigo promocional}} e {{}} ou {{ aberto {{hora}}");
+
+        assertThat(template.render(Map.of("hora", "19:00")))
+                .isEqualTo("Use {{codigo promocional}} e {{}} ou {{ aberto 19:00");
+    }
+
+    @Test
+    void rendersPresentNullValueAsEmpty() {
+        Map<String, String> values = new HashMap<>();
+        values.put("nome", null);
+
+        assertThat(MessageTemplate.compile("Olá {{nome}}!").render(values)).isEqualTo("Olá !");
+    }
+
+    @Test
+    void returnsTextUnchangedWithoutPlaceholders() {
+        MessageTemplate template = MessageTemplate.compile("Culto hoje às 19h {sem chaves duplas}");
+
+        assertThat(template.hasPlaceholders()).isFalse();
+        assertThat(template.render(Map.of("nome", "Maria"))).isEqualTo("Culto hoje às 19h {sem chaves duplas}");
+        assertThat(MessageTemplate.compile(null).render(Map.of())).isEmpty();
+    }
+
+    @Test
+    void rendersSameTemplateForManyRecipients() {
+        MessageTemplate template = MessageTemplate.compile("{{nome}} ({{telefone}})");
+        Map<String, String> values = new HashMap<>();
+
+        values.put("nome", "Ana");
+        values.put("telefone", "5511999990000");
+        assertThat(template.render(values)).isEqualTo("Ana (5511999990000)");
+
+        values.put("nome", "Bruno");
+        values.put("telefone", "5511988887777");
+        assertThat(template.render(values)).isEqualTo("Bruno (5511988887777)");
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.willianmendesf.system.service.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameFingerprintTest {
+
+    @Test
+    void keepsFirstAndLastNameWithoutAccentsOrParticles() {
+        assertThat(NameFingerprint.of("Thaís Conceição de Souza")).isEqualTo("tais sousa");
+        assertThat(NameFingerprint.of("Tais Sousa")).isEqualTo("tais sousa");
+        assertThat(NameFingerprint.of("Maria da Silva")).isEqualTo(NameFingerprint.of("MARIA SILVA"));
+    }
+
+    @Test
+    void sameSoundGivesSameKey() {
+        assertThat(NameFingerprint.of("Philipe")).isEqualTo(NameFingerprint.of("Filipe"));
+        assertThat(NameFingerprint.of("Helena")).isEqualTo(NameFingerprint.of("Elena"));
+        assertThat(NameFingerprint.of("Isabella")).isEqualTo(NameFingerprint.of("Izabela"));
+        assertThat(NameFingerprint.of("Kátia")).isEqualTo(NameFingerprint.of("Catia"));
+        assertThat(NameFingerprint.of("Yasmin")).isEqualTo(NameFingerprint.of("Iasmin"));
+        assertThat(NameFingerprint.of("Cecília")).isEqualTo(NameFingerprint.of("Sesilia"));
+    }
+
+    @Test
+    void differentNamesKeepDifferentKeys() {
+        assertThat(NameFingerprint.of("Ana Souza")).isNotEqualTo(NameFingerprint.of("Ana Santos"));
+        assertThat(NameFingerprint.of("Carla")).isNotEqualTo(NameFingerprint.of("Carlos"));
+    }
+
+    @Test
+    void blankNameGivesEmptyKey() {
+        assertThat(NameFingerprint.of(null)).isEmpty();
+        assertThat(NameFingerprint.of("   ")).isEmpty();
+        assertThat(NameFingerprint.of("de")).isEmpty();
+    }
+}
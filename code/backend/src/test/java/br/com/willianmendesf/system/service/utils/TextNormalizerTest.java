@@ -0,0 +1,28 @@
+package br.com.willianmendesf.system.service.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextNormalizerTest {
+
+    @Test
+    void removesAccentsAndLowercases() {
+        assertThat(TextNormalizer.fold("José Conceição")).isEqualTo("jose conceicao");
+        assertThat(TextNormalizer.fold("ÂNGELA MÜLLER")).isEqualTo("angela muller");
+    }
+
+    @Test
+    void collapsesPunctuationAndSpaces() {
+        assertThat(TextNormalizer.fold("  Maria--da   Silva. ")).isEqualTo("maria da silva");
+        assertThat(TextNormalizer.fold("D'Ávila")).isEqualTo("d avila");
+        assertThat(TextNormalizer.fold("Grupo 2")).isEqualTo("grupo 2");
+    }
+
+    @Test
+    void emptyInputGivesEmptyText() {
+        assertThat(TextNormalizer.fold(null)).isEmpty();
+        assertThat(TextNormalizer.fold("")).isEmpty();
+        assertThat(TextNormalizer.fold(" - ")).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.willianmendesf.system.service.utils;
+
+import br.com.willianmendesf.system.model.dto.WhatsappContactDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappGroupDTO;
+import br.com.willianmendesf.system.model.dto.WhatsappHistoryMessageDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WhatsappExtractorTest {
+
+    @Test
+    void extractsGroupsSkippingNestedParticipants() throws IOException {
+        List<WhatsappGroupDTO> groups = WhatsappExtractor.extractGroupList(resource("groups.json"));
+
+        assertThat(groups).containsExactly(
+                new WhatsappGroupDTO("120363025246125486@g.us", "Louvor"),
+                new WhatsappGroupDTO("120363041234567890@g.us", ""));
+    }
+
+    @Test
+    void extractsContactsWithMissingNameAsEmpty() throws IOException {
+        List<WhatsappContactDTO> contacts = WhatsappExtractor.extractContactsList(resource("contacts.json"));
+
+        assertThat(contacts).containsExactly(
+                new WhatsappContactDTO("5511999990000@s.whatsapp.net", "Maria Souza"),
+                new WhatsappContactDTO("5511988887777@s.whatsapp.net", "João"),
+                new WhatsappContactDTO("5511977776666@s.whatsapp.net", ""));
+    }
+
+    @Test
+    void extractsHistoryIgnoringFieldsAfterData() throws IOException {
+        List<WhatsappHistoryMessageDTO> history = WhatsappExtractor.extractMessageHistory(resource("history.json"));
+
+        assertThat(history).containsExactly(
+                new WhatsappHistoryMessageDTO("5511999990000@s.whatsapp.net", "2025-06-01T10:15:30Z", "Bom dia! Culto às 19h"),
+                new WhatsappHistoryMessageDTO("5511999990000@s.whatsapp.net", "1748772930", "Confirmado"));
+    }
+
+    @Test
+    void returnsEmptyListWithoutResultsData() {
+        assertThat(WhatsappExtractor.extractGroupList(null)).isEmpty();
+        assertThat(WhatsappExtractor.extractGroupList("  ")).isEmpty();
+        assertThat(WhatsappExtractor.extractGroupList("{\"code\":\"ERROR\",\"message\":\"not logged in\"}")).isEmpty();
+        assertThat(WhatsappExtractor.extractGroupList("{\"results\":{\"data\":null}}")).isEmpty();
+        assertThat(WhatsappExtractor.extractGroupList("[]")).isEmpty();
+    }
+
+    @Test
+    void failsOnMalformedJson() {
+        assertThatThrownBy(() -> WhatsappExtractor.extractContactsList("{\"results\":{\"data\":[{\"jid\":"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to parse contacts JSON");
+    }
+
+    private static String resource(String name) throws IOException {
+        try (InputStream in = WhatsappExtractorTest.class.getResourceAsStream("/whatsapp/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.willianmendesf.system.stub;
+
+import br.com.willianmendesf.system.Application;
+import org.springframework.boot.SpringApplication;
+
+/**
+ * Sobe a aplicação com o classpath de teste e o profile "gateway-stub", incluindo o
+ * {@link GatewayStubController}, o {@link SendLoadTestRunner} e o {@link SchedulerLoadTestRunner}:
+ *
+ *   mvn spring-boot:test-run -Dspring-boot.run.main-class=br.com.willianmendesf.system.stub.GatewayStubApplication \
+ *       -Dspring-boot.run.arguments="--loadtest.enabled=true --loadtest.scheduler.enabled=true"
+ */
+public class GatewayStubApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.from(Application::main).withAdditionalProfiles("gateway-stub").run(args);
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.willianmendesf.system.stub;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulador local dos endpoints da API do WhatsApp usados pelo WhatsappMessageService.
+ * Fica no classpath de teste e só sobe pelo GatewayStubApplication (profile "gateway-stub"), sem autenticação
+ * (GatewayStubSecurityConfig); para usar, configure API_WTZ_URL como http://localhost:7000/api/v1/stub/gateway
+ *
+ * Latência e taxa de erro configuráveis:
+ *   gateway.stub.latency-ms  - latência base por requisição (padrão 50)
+ *   gateway.stub.jitter-ms   - variação aleatória somada à latência (padrão 20)
+ *   gateway.stub.error-rate  - fração de requisições respondidas com HTTP 500 (padrão 0.0)
+ *   gateway.stub.groups      - quantidade de grupos retornados em /user/my/groups (padrão 50)
+ */
+@Slf4j
+@Profile("gateway-stub")
+@RestController
+@RequestMapping("/stub/gateway")
+public class GatewayStubController {
+
+    @Value("${gateway.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @Value("${gateway.stub.jitter-ms:20}")
+    private long jitterMs;
+
+    @Value("${gateway.stub.error-rate:0.0}")
+    private double errorRate;
+
+    @Value("${gateway.stub.groups:50}")
+    private int groups;
+
+    private final AtomicLong received = new AtomicLong();
+
+    @PostMapping("/send/message")
+    public ResponseEntity<Object> sendMessage(@RequestBody Map<String, Object> body) {
+        return respond(() -> sendResult());
+    }
+
+    @PostMapping(value = "/send/{mediaType}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Object> sendMedia(@PathVariable String mediaType,
+                                            @RequestParam("phone") String phone,
+                                            @RequestParam Map<String, MultipartFile> files) {
+        return respond(() -> sendResult());
+    }
+
+    @GetMapping("/user/my/groups")
+    public ResponseEntity<Object> getGroups() {
+        return respond(() -> {
+            List<Map<String, Object>> data = new java.util.ArrayList<>(groups);
+            for (int i = 0; i < groups; i++) {
+                data.add(Map.of("JID", "1203630000000" + i + "@g.us", "Name", "Grupo " + i));
+            }
+            return Map.of("code", "SUCCESS", "results", Map.of("data", data));
+        });
+    }
+
+    @GetMapping("/app/status")
+    public ResponseEntity<Object> getStatus() {
+        return respond(() -> Map.of("code", "SUCCESS", "results",
+                Map.of("is_connected", true, "is_logged_in", true, "device_id", "stub-device")));
+    }
+
+    private Map<String, Object> sendResult() {
+        return Map.of("code", "SUCCESS", "message", "Success", "results",
+                Map.of("message_id", UUID.randomUUID().toString(), "status", "sent"));
+    }
+
+    private ResponseEntity<Object> respond(java.util.function.Supplier<Object> body) {
+        long count = received.incrementAndGet();
+        if (count % 1000 == 0) log.info("Gateway stub: {} requests received", count);
+
+        try {
+            long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+            if (delay > 0) Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("code", "INTERNAL_SERVER_ERROR", "message", "Injected error"));
+        }
+        return ResponseEntity.ok(body.get());
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.willianmendesf.system.stub;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Cadeia de segurança própria do simulador, avaliada antes da cadeia da aplicação:
+ * /stub/gateway/** fica liberado sem sessão, como a API externa que ele substitui
+ */
+@Configuration
+@Profile("gateway-stub")
+public class GatewayStubSecurityConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain gatewayStubFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/stub/gateway/**")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll());
+        return http.build();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.willianmendesf.system.stub;
+
+import java.util.Arrays;
+
+/**
+ * Percentis de latências medidas em nanossegundos, formatados em milissegundos para o log dos testes de carga
+ */
+final class LatencyStats {
+
+    private final long[] sorted;
+
+    LatencyStats(long[] latencies) {
+        this.sorted = latencies.clone();
+        Arrays.sort(this.sorted);
+    }
+
+    String percentile(int percentile) {
+        if (sorted.length == 0) return "0";
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return String.format("%.2f", sorted[Math.max(0, index)] / 1_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50=%s p90=%s p99=%s max=%s", percentile(50), percentile(90), percentile(99), percentile(100));
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.willianmendesf.system.stub;
+
+import br.com.willianmendesf.system.cache.AppointmentCache;
+import br.com.willianmendesf.system.cache.BirthdayIndexCache;
+import br.com.willianmendesf.system.model.entity.AppointmentEntity;
+import br.com.willianmendesf.system.model.enums.RecipientType;
+import br.com.willianmendesf.system.model.enums.TaskStatus;
+import br.com.willianmendesf.system.model.enums.TaskType;
+import br.com.willianmendesf.system.repository.AppointmentExecutionRepository;
+import br.com.willianmendesf.system.repository.AppointmentRepository;
+import br.com.willianmendesf.system.service.AppointmentSchedulerService;
+import br.com.willianmendesf.system.service.MemberRecipientService;
+import br.com.willianmendesf.system.service.WhatsappMessageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Teste de carga do agendador: cada execução passa pelo caminho real do AppointmentSchedulerService
+ * (verificação de vencimento, template com {{nome}}/{{data}}, destinatários, envio e registro da execução)
+ * contra o {@link GatewayStubController}. Ativo apenas com o profile "gateway-stub" e loadtest.scheduler.enabled=true.
+ *
+ * Os agendamentos são gravados desabilitados (o agendador da aplicação não os carrega) e executados por
+ * instâncias próprias do serviço, cada uma com um AppointmentCache só com o seu agendamento; ao final,
+ * agendamentos e execuções são removidos.
+ *
+ *   loadtest.scheduler.appointments  - agendamentos criados (padrão 10)
+ *   loadtest.scheduler.rounds        - execuções de cada agendamento (padrão 20)
+ *   loadtest.scheduler.recipients    - destinatários INDIVIDUAL por agendamento (padrão 50)
+ *   loadtest.scheduler.member-groups - ids de grupos de membros; se informado, usa MEMBER_GROUP
+ *   loadtest.image                   - arquivo em file.images-dir enviado como imagem (opcional)
+ */
+@Slf4j
+@Component
+@Profile("gateway-stub")
+@RequiredArgsConstructor
+public class SchedulerLoadTestRunner {
+
+    private static final String NAME_PREFIX = "loadtest-scheduler-";
+    private static final String MESSAGE = "Olá {{nome}}! Lembrete de {{agendamento}} em {{data}} às {{hora}} ({{telefone}})";
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentExecutionRepository executionRepository;
+    private final WhatsappMessageService whatsapp;
+    private final MemberRecipientService memberRecipientService;
+    private final BirthdayIndexCache birthdayIndexCache;
+
+    @Value("${loadtest.scheduler.enabled:false}")
+    private boolean enabled;
+
+    @Value("${loadtest.scheduler.appointments:10}")
+    private int appointments;
+
+    @Value("${loadtest.scheduler.rounds:20}")
+    private int rounds;
+
+    @Value("${loadtest.scheduler.recipients:50}")
+    private int recipients;
+
+    @Value("${loadtest.scheduler.member-groups:}")
+    private List<Long> memberGroups;
+
+    @Value("${loadtest.image:}")
+    private String image;
+
+    @Value("${scheduler.max.backlog.minutes:5}")
+    private int maxBacklogMinutes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        if (!enabled) return;
+        if (rounds >= maxBacklogMinutes * 60) {
+            log.warn("Scheduler load test skipped: rounds must be below {} (backlog window in seconds)", maxBacklogMinutes * 60);
+            return;
+        }
+
+        List<AppointmentEntity> created = createAppointments();
+        try {
+            execute(created);
+        } finally {
+            cleanUp(created);
+        }
+    }
+
+    private void execute(List<AppointmentEntity> created) {
+        List<AppointmentSchedulerService> schedulers = created.stream().map(this::schedulerFor).toList();
+        long[] latencies = new long[created.size() * rounds];
+        int index = 0;
+
+        log.info("Scheduler load test started: {} appointments x {} rounds, recipient type {}, image={}",
+                created.size(), rounds, recipientType(), !image.isBlank());
+        long start = System.nanoTime();
+
+        // Sequencial, como o @Scheduled da aplicação: uma execução vencida por chamada
+        for (int round = 0; round < rounds; round++) {
+            for (AppointmentSchedulerService scheduler : schedulers) {
+                long executionStart = System.nanoTime();
+                scheduler.checkAndExecuteScheduledAppointments();
+                latencies[index++] = System.nanoTime() - executionStart;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long failures = created.stream()
+                .flatMap(appointment -> executionRepository.findByAppointmentIdOrderByExecutionTimeDesc(appointment.getId()).stream())
+                .filter(execution -> execution.getStatus() != TaskStatus.SUCCESS)
+                .count();
+        double seconds = elapsed / 1_000_000_000.0;
+        log.info("Scheduler load test finished: {} executions in {} s -> {} executions/s, failures={}",
+                latencies.length, String.format("%.2f", seconds), String.format("%.1f", latencies.length / seconds), failures);
+        log.info("Scheduler execution latency (ms): {}", new LatencyStats(latencies));
+    }
+
+    /**
+     * Serviço do agendador isolado do cache da aplicação, com apenas o agendamento informado
+     */
+    private AppointmentSchedulerService schedulerFor(AppointmentEntity stored) {
+        AppointmentEntity appointment = new AppointmentEntity(stored.getId(), stored);
+        appointment.setEnabled(true);
+
+        AppointmentCache cache = new AppointmentCache();
+        cache.updateCacheAppointment(appointment);
+
+        AppointmentSchedulerService scheduler = new AppointmentSchedulerService(cache, appointmentRepository,
+                executionRepository, whatsapp, memberRecipientService, birthdayIndexCache);
+        ReflectionTestUtils.setField(scheduler, "maxBacklogMinutes", maxBacklogMinutes);
+        return scheduler;
+    }
+
+    private List<AppointmentEntity> createAppointments() {
+        // Cron a cada segundo e última execução no passado: cada chamada encontra exatamente um horário vencido
+        Timestamp lastExecution = Timestamp.valueOf(LocalDateTime.now().minusSeconds(rounds + 1L));
+        List<String> phones = IntStream.range(0, recipients)
+                .mapToObj(i -> String.format("55119%08d", i))
+                .toList();
+
+        List<AppointmentEntity> entities = new ArrayList<>(appointments);
+        for (int i = 0; i < appointments; i++) {
+            AppointmentEntity appointment = new AppointmentEntity();
+            appointment.setName(NAME_PREFIX + i);
+            appointment.setSchedule("* * * * * *");
+            appointment.setEnabled(false);
+            appointment.setTaskType(TaskType.WHATSAPP_MESSAGE);
+            appointment.setMessage(MESSAGE);
+            appointment.setRecipientType(recipientType());
+            if (recipientType() == RecipientType.MEMBER_GROUP) {
+                appointment.setSendToMemberGroups(memberGroups);
+            } else {
+                appointment.setSendTo(phones);
+            }
+            appointment.setSendImage(!image.isBlank());
+            appointment.setImageToSend(image.isBlank() ? null : image);
+            appointment.setLastExecution(lastExecution);
+            entities.add(appointment);
+        }
+        return appointmentRepository.saveAll(entities);
+    }
+
+    private RecipientType recipientType() {
+        return memberGroups == null || memberGroups.isEmpty() ? RecipientType.INDIVIDUAL : RecipientType.MEMBER_GROUP;
+    }
+
+    private void cleanUp(List<AppointmentEntity> created) {
+        for (AppointmentEntity appointment : created) {
+            executionRepository.deleteAll(executionRepository.findByAppointmentIdOrderByExecutionTimeDesc(appointment.getId()));
+        }
+        appointmentRepository.deleteAllById(created.stream().map(AppointmentEntity::getId).toList());
+        log.info("Scheduler load test data removed: appointments {}", Arrays.toString(
+                created.stream().map(AppointmentEntity::getId).toArray()));
+    }
+}
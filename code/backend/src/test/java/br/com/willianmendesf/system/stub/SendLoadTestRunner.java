@@ -0,0 +1,95 @@
+package br.com.willianmendesf.system.stub;
+
+import br.com.willianmendesf.system.model.WhatsappSender;
+import br.com.willianmendesf.system.model.enums.WhatsappMediaType;
+import br.com.willianmendesf.system.service.WhatsappMessageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Teste de carga do caminho de envio (WhatsappMessageService -> WhatsappSenderService -> API).
+ * Ativo apenas com o profile "gateway-stub" e loadtest.enabled=true; roda após a inicialização
+ * contra o {@link GatewayStubController} e registra no log vazão e percentis de latência.
+ * O caminho completo do agendador é medido pelo {@link SchedulerLoadTestRunner}.
+ *
+ *   loadtest.messages - total de mensagens enviadas (padrão 1000)
+ *   loadtest.threads  - envios concorrentes (padrão 8)
+ *   loadtest.image    - arquivo em file.images-dir para testar /send/image (opcional)
+ */
+@Slf4j
+@Component
+@Profile("gateway-stub")
+@RequiredArgsConstructor
+public class SendLoadTestRunner {
+
+    private final WhatsappMessageService whatsapp;
+
+    @Value("${loadtest.enabled:false}")
+    private boolean enabled;
+
+    @Value("${loadtest.messages:1000}")
+    private int messages;
+
+    @Value("${loadtest.threads:8}")
+    private int threads;
+
+    @Value("${loadtest.image:}")
+    private String image;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() throws InterruptedException {
+        if (!enabled) return;
+
+        Resource media = image.isBlank() ? null : whatsapp.loadMedia(image);
+        long[] latencies = new long[messages];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        log.info("Load test started: {} messages, {} threads, image={}", messages, threads, media != null);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < messages) {
+                    WhatsappSender message = new WhatsappSender();
+                    message.setPhone("5511900000000");
+                    message.setMessage("Load test message " + i);
+                    if (media != null) {
+                        message.setMedia(image);
+                        message.setMediaType(WhatsappMediaType.IMAGE);
+                    }
+
+                    long sendStart = System.nanoTime();
+                    try {
+                        whatsapp.sendMessage(message, media);
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - sendStart;
+                }
+            });
+        }
+
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.HOURS);
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1_000_000_000.0;
+        log.info("Load test finished: {} messages in {} s -> {} msg/s, errors={}",
+                messages, String.format("%.2f", seconds), String.format("%.1f", messages / seconds), errors.get());
+        log.info("Latency (ms): {}", new LatencyStats(latencies));
+    }
+}
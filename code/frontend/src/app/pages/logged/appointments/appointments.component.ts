@@ -14,6 +14,7 @@ import { environment } from '../../../../environments/environment';
 import { ActionIcons, NavigationIcons } from '../../../shared/lib/utils/icons';
 import { DomSanitizer, SafeHtml } from '@angular/platform-browser';
 import { NotificationService } from '../../../shared/services/notification.service';
+import { GroupDTO, GroupService } from '../../../shared/service/group.service';
 export interface ChecklistItem {
   id: number;
   nome: string;
@@ -33,6 +34,7 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
   public filteredAppointments: Appointment[] = [];
   public groups: Group[] = []
   public contacts: Contact[] = []
+  public memberGroups: GroupDTO[] = []
   public env = environment.apiUrl;
 
   // Tabs
@@ -63,7 +65,8 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
   constructor(
     private api : ApiService,
     private cdr: ChangeDetectorRef,
-    private notificationService: NotificationService
+    private notificationService: NotificationService,
+    private groupService: GroupService
   ) { }
   
   ngOnDestroy(): void { }
@@ -72,6 +75,7 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
     this.getAll();
     this.getContacts();
     this.getGroups();
+    this.getMemberGroups();
     this.initializeLogColumns();
     this.getExecutionLogs();
   }
@@ -84,8 +88,17 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
     // Limpar campos do tipo não selecionado
     if (this.currentAppointment.recipientType === "INDIVIDUAL") {
       this.currentAppointment.sendToGroups = [];
+      this.currentAppointment.sendToMemberGroups = [];
     } else if (this.currentAppointment.recipientType === "GROUP") {
       this.currentAppointment.sendTo = [];
+      this.currentAppointment.sendToMemberGroups = [];
+    } else if (this.currentAppointment.recipientType === "MEMBER_GROUP") {
+      this.currentAppointment.sendTo = [];
+      this.currentAppointment.sendToGroups = [];
+    } else if (this.currentAppointment.recipientType === "BIRTHDAY") {
+      this.currentAppointment.sendTo = [];
+      this.currentAppointment.sendToGroups = [];
+      this.currentAppointment.sendToMemberGroups = [];
     }
   }
 
@@ -112,6 +125,11 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
     return group ? group.name : String(groupId);
   }
 
+  public getMemberGroupName(groupId: number): string {
+    const group = this.memberGroups.find(g => this.compareIds(g.id, groupId));
+    return group ? group.nome : String(groupId);
+  }
+
   public getContactName(contactId: string | number): string {
     if (!contactId) return String(contactId || '');
     const contact = this.contacts.find(c => this.compareIds(c.id, contactId));
@@ -131,6 +149,11 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
       destinations.push(...groupNames);
     }
 
+    // Adicionar grupos de membros (buscar nomes)
+    if (appointment.sendToMemberGroups && appointment.sendToMemberGroups.length > 0) {
+      destinations.push(...appointment.sendToMemberGroups.map(id => this.getMemberGroupName(id)));
+    }
+
     // Adicionar contatos individuais (buscar nomes)
     if (appointment.sendTo && appointment.sendTo.length > 0) {
       const contactNames = appointment.sendTo.map(id => this.getContactName(id));
@@ -235,6 +258,22 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
     })
   }
 
+  public getMemberGroups() {
+    this.groupService.getAll()
+    .pipe(takeUntil(this.unsubscribe$))
+    .subscribe({
+      next: res => {
+        this.memberGroups = Array.isArray(res) ? res : [];
+        this.cdr.markForCheck();
+      },
+      error: error => {
+        console.error('Error loading member groups:', error);
+        this.memberGroups = [];
+        this.cdr.markForCheck();
+      }
+    })
+  }
+
   public getAll() {
     this.api.get("appointments")
     .pipe(takeUntil(this.unsubscribe$))
@@ -289,6 +328,7 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
         ...appointment,
         sendTo: appointment.sendTo || [],
         sendToGroups: appointment.sendToGroups || [],
+        sendToMemberGroups: appointment.sendToMemberGroups || [],
         monitoringNumbers: appointment.monitoringNumbers || [],
         monitoringGroupsIds: appointment.monitoringGroupsIds || [],
         recipientType: appointment.recipientType || (appointment.sendToGroups && appointment.sendToGroups.length > 0 ? "GROUP" : "INDIVIDUAL")
@@ -314,6 +354,7 @@ export class AppointmentsComponent implements OnInit, OnDestroy {
         message: '',
         sendTo: [],
         sendToGroups: [],
+        sendToMemberGroups: [],
         recipientType: "INDIVIDUAL",
         sendImage: false,
         imageToSend: ''
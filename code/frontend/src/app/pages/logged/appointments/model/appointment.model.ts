@@ -17,6 +17,7 @@ export class Appointment {
   "message": string;
   "sendTo": string[];
   "sendToGroups": string[];
+  "sendToMemberGroups": number[];
   "recipientType": string;
   "taskType": string;
   "sendImage": boolean;
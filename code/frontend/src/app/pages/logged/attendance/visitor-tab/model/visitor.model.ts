@@ -16,5 +16,9 @@ export interface Visitor {
 export interface VisitorStats {
   data: string; // ISO date string
   quantidade: number;
+  primeiraVez?: number;
+  deSP?: number;
+  outrosEstados?: number;
+  acompanhantes?: number;
 }
 
@@ -661,11 +661,11 @@ export class VisitorManagementComponent implements OnInit, OnDestroy {
   onImportFileSelected(event: any): void {
     const file: File = event.target.files[0];
     if (file) {
-      const validExtensions = ['.xlsx', '.xls', '.csv'];
+      const validExtensions = ['.xlsx', '.csv'];
       const fileExtension = file.name.substring(file.name.lastIndexOf('.')).toLowerCase();
       
       if (!validExtensions.includes(fileExtension)) {
-        this.notificationService.showError('Formato de arquivo inválido. Use .xlsx, .xls ou .csv');
+        this.notificationService.showError('Formato de arquivo inválido. Use .xlsx ou .csv');
         return;
       }
       
@@ -679,11 +679,11 @@ export class VisitorManagementComponent implements OnInit, OnDestroy {
     const files = event.dataTransfer?.files;
     if (files && files.length > 0) {
       const file = files[0];
-      const validExtensions = ['.xlsx', '.xls', '.csv'];
+      const validExtensions = ['.xlsx', '.csv'];
       const fileExtension = file.name.substring(file.name.lastIndexOf('.')).toLowerCase();
       
       if (!validExtensions.includes(fileExtension)) {
-        this.notificationService.showError('Formato de arquivo inválido. Use .xlsx, .xls ou .csv');
+        this.notificationService.showError('Formato de arquivo inválido. Use .xlsx ou .csv');
         return;
       }
       
@@ -4,7 +4,7 @@ import { FormsModule } from '@angular/forms';
 import { DomSanitizer, SafeHtml } from '@angular/platform-browser';
 import { HttpClient } from '@angular/common/http';
 import { ApiService } from '../../../shared/service/api.service';
-import { Subject, takeUntil } from 'rxjs';
+import { Subject, switchMap, takeUntil } from 'rxjs';
 import { PageTitleComponent } from "../../../shared/modules/pagetitle/pagetitle.component";
 import { ModalComponent, ModalButton } from '../../../shared/modules/modal/modal.component';
 import { NavigationIcons, ActionIcons, MessageIcons } from '../../../shared/lib/utils/icons';
@@ -20,6 +20,7 @@ import { UtilsService } from '../../../shared/services/utils.service';
 import { GroupService, GroupDTO } from '../../../shared/service/group.service';
 import { EnrollmentService, GroupEnrollmentDTO } from '../../../shared/service/enrollment.service';
 import { buildProfileImageUrl } from '../../../shared/utils/image-url-builder';
+import { ImportJob, waitForImportJob } from '../../../shared/utils/import-job';
 
 @Component({
   selector: 'member-management',
@@ -133,11 +134,11 @@ export class MemberManagementComponent implements OnInit, AfterViewInit, OnDestr
   onImportFileSelected(event: any): void {
     const file: File = event.target.files[0];
     if (file) {
-      const validExtensions = ['.xlsx', '.xls', '.csv'];
+      const validExtensions = ['.xlsx', '.csv'];
       const fileExtension = file.name.substring(file.name.lastIndexOf('.')).toLowerCase();
       
       if (!validExtensions.includes(fileExtension)) {
-        this.notificationService.showError('Formato de arquivo inválido. Use .xlsx, .xls ou .csv');
+        this.notificationService.showError('Formato de arquivo inválido. Use .xlsx ou .csv');
         return;
       }
       
@@ -151,11 +152,11 @@ export class MemberManagementComponent implements OnInit, AfterViewInit, OnDestr
     const files = event.dataTransfer?.files;
     if (files && files.length > 0) {
       const file = files[0];
-      const validExtensions = ['.xlsx', '.xls', '.csv'];
+      const validExtensions = ['.xlsx', '.csv'];
       const fileExtension = file.name.substring(file.name.lastIndexOf('.')).toLowerCase();
       
       if (!validExtensions.includes(fileExtension)) {
-        this.notificationService.showError('Formato de arquivo inválido. Use .xlsx, .xls ou .csv');
+        this.notificationService.showError('Formato de arquivo inválido. Use .xlsx ou .csv');
         return;
       }
       
@@ -205,8 +206,17 @@ export class MemberManagementComponent implements OnInit, AfterViewInit, OnDestr
     const formData = new FormData();
     formData.append('file', this.selectedImportFile);
 
-    this.http.post(`${environment.apiUrl}members/import`, formData, { withCredentials: true })
-      .pipe(takeUntil(this.unsubscribe$))
+    this.http.post<ImportJob>(`${environment.apiUrl}members/import`, formData, { withCredentials: true })
+      .pipe(
+        switchMap(job => waitForImportJob(
+          job,
+          jobId => this.http.get<ImportJob>(`${environment.apiUrl}members/import/${jobId}`, { withCredentials: true }),
+          current => this.importProgress = current.status === 'QUEUED'
+            ? 'Aguardando na fila de importação...'
+            : `Processando arquivo... ${current.result.totalRows} linha(s) lida(s)`
+        )),
+        takeUntil(this.unsubscribe$)
+      )
       .subscribe({
         next: (result: any) => {
           this.importResult = result;
@@ -217,6 +227,7 @@ export class MemberManagementComponent implements OnInit, AfterViewInit, OnDestr
           const totalRows = result.totalRows || 0;
           const createdCount = result.createdCount || 0;
           const updatedCount = result.updatedCount || 0;
+          const unchangedCount = result.unchangedCount || 0;
 
           if (errorCount === 0) {
             this.notificationService.showSuccess(
@@ -234,6 +245,7 @@ export class MemberManagementComponent implements OnInit, AfterViewInit, OnDestr
             Total de linhas: ${totalRows}
             Criados: ${createdCount}
             Atualizados: ${updatedCount}
+            Sem alterações: ${unchangedCount}
             Sucessos: ${successCount}
             Erros: ${errorCount}
           `;
@@ -7,7 +7,7 @@ import { WhatsappsService, ConnectionStatus, AutoReconnectStatus } from '../../.
 import { PageTitleComponent } from "../../../shared/modules/pagetitle/pagetitle.component";
 import { ModalComponent, ModalButton } from '../../../shared/modules/modal/modal.component';
 import { WhatsappLoginModalComponent } from './whatsapp-login-modal/whatsapp-login-modal.component';
-import { Subject, takeUntil, interval } from 'rxjs';
+import { Subject, takeUntil, interval, retry, timer } from 'rxjs';
 import { NavigationIcons, StatusIcons, MessageIcons } from '../../../shared/lib/utils/icons';
 
 @Component({
@@ -481,12 +481,39 @@ export class WhatsAppComponent implements OnInit, OnDestroy {
   }
 
   startStatusPolling() {
+    // Status enviado pelo servidor a cada mudança; se o stream cair de vez, faz polling até conseguir reabri-lo
+    this.whatsappService.watchConnectionStatus()
+      .pipe(
+        retry({
+          delay: () => {
+            this.startPollingFallback();
+            return timer(30000);
+          }
+        }),
+        takeUntil(this.unsubscribe$)
+      )
+      .subscribe(status => {
+        this.stopPollingFallback();
+        this.connectionStatus = status;
+        this.lastStatusCheck = new Date();
+        this.cdr.detectChanges();
+      });
+  }
+
+  private startPollingFallback() {
+    if (this.statusCheckInterval) return;
     // Atualizar status a cada 30 segundos
     this.statusCheckInterval = setInterval(() => {
       this.loadConnectionStatus();
     }, 30000);
   }
 
+  private stopPollingFallback() {
+    if (!this.statusCheckInterval) return;
+    clearInterval(this.statusCheckInterval);
+    this.statusCheckInterval = null;
+  }
+
   formatLastCheck(): string {
     if (!this.lastStatusCheck) return 'Nunca';
     const now = new Date();
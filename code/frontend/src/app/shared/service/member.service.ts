@@ -25,6 +25,23 @@ export interface MemberDTO {
   groupEnrollments?: GroupEnrollmentDTO[];
 }
 
+export interface MemberFilter {
+  nome?: string;
+  groupId?: number;
+  tipoCadastro?: string;
+  child?: boolean;
+  intercessor?: boolean;
+  cidade?: string;
+}
+
+export interface PageResponse<T> {
+  content: T[];
+  page: number;
+  size: number;
+  totalElements: number;
+  totalPages: number;
+}
+
 @Injectable({
   providedIn: 'root'
 })
@@ -35,6 +52,16 @@ export class MemberService {
     return this.api.get('members');
   }
 
+  getPage(filter: MemberFilter = {}, page = 0, size = 50, sort = 'nome,asc'): Observable<PageResponse<MemberDTO>> {
+    const params = new URLSearchParams({ page: String(page), size: String(size), sort });
+    Object.entries(filter).forEach(([key, value]) => {
+      if (value !== undefined && value !== null && value !== '') {
+        params.set(key, String(value));
+      }
+    });
+    return this.api.get(`members/page?${params.toString()}`);
+  }
+
   getById(id: number): Observable<MemberDTO> {
     return this.api.get(`members/${id}`);
   }
@@ -1,6 +1,7 @@
 import { Injectable } from '@angular/core';
-import { Observable } from 'rxjs';
+import { Observable, switchMap } from 'rxjs';
 import { ApiService } from './api.service';
+import { ImportJob, ImportResult, waitForImportJob } from '../utils/import-job';
 import { Visitor, VisitorStats } from '../../pages/logged/visitor-management/model/visitor.model';
 
 @Injectable({
@@ -57,10 +58,19 @@ export class VisitorService {
     return this.api.getBlob('visitors/import/template');
   }
 
-  import(file: File): Observable<any> {
+  /**
+   * Envia o arquivo e acompanha a importação em segundo plano até o resultado final
+   */
+  import(file: File, onProgress?: (job: ImportJob) => void): Observable<ImportResult> {
     const formData = new FormData();
     formData.append('file', file);
-    return this.api.postFormData('visitors/import', formData);
+    return this.api.postFormData('visitors/import', formData).pipe(
+      switchMap((job: ImportJob) => waitForImportJob(job, jobId => this.getImportJob(jobId), onProgress))
+    );
+  }
+
+  getImportJob(jobId: string): Observable<ImportJob> {
+    return this.api.get(`visitors/import/${jobId}`);
   }
 }
 
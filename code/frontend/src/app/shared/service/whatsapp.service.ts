@@ -80,6 +80,24 @@ export class WhatsappsService {
     return this.http.get<ConnectionStatus>(this.buildUrl('whatsapp/connection/status'), { withCredentials: true });
   }
 
+  /**
+   * Recebe o status da conexão via Server-Sent Events (status atual e cada mudança).
+   * Quedas do stream (como o timeout do emitter no servidor) são reconectadas pelo próprio EventSource;
+   * o Observable só falha quando o navegador desiste de reconectar (ex.: sessão expirada)
+   */
+  public watchConnectionStatus(): Observable<ConnectionStatus> {
+    return new Observable<ConnectionStatus>(subscriber => {
+      const source = new EventSource(this.buildUrl('whatsapp/connection/status/stream'), { withCredentials: true });
+      source.addEventListener('status', (event: MessageEvent) => subscriber.next(JSON.parse(event.data)));
+      source.onerror = (error) => {
+        if (source.readyState === EventSource.CLOSED) {
+          subscriber.error(error);
+        }
+      };
+      return () => source.close();
+    });
+  }
+
   /**
    * Reconecta manualmente à API WhatsApp
    */
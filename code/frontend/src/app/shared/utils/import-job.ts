@@ -0,0 +1,40 @@
+import { Observable, filter, map, switchMap, take, tap, timer } from 'rxjs';
+
+export interface ImportResult {
+  totalRows: number;
+  successCount: number;
+  errorCount: number;
+  updatedCount: number;
+  createdCount: number;
+  unchangedCount: number;
+  errors: string[];
+}
+
+export interface ImportJob {
+  jobId: string;
+  status: 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+  fileName: string;
+  createdAt: string;
+  finishedAt: string | null;
+  result: ImportResult;
+}
+
+const POLL_INTERVAL_MS = 1000;
+
+/**
+ * Acompanha uma importação em segundo plano (POST .../import retorna o job)
+ * consultando o status até o fim; emite uma única vez o resultado final
+ */
+export function waitForImportJob(
+  job: ImportJob,
+  fetchJob: (jobId: string) => Observable<ImportJob>,
+  onProgress?: (job: ImportJob) => void
+): Observable<ImportResult> {
+  return timer(0, POLL_INTERVAL_MS).pipe(
+    switchMap(() => fetchJob(job.jobId)),
+    tap(current => onProgress?.(current)),
+    filter(current => current.status === 'COMPLETED' || current.status === 'FAILED'),
+    take(1),
+    map(current => current.result)
+  );
+}